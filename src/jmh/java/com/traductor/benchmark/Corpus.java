@@ -0,0 +1,100 @@
+package com.traductor.benchmark;
+
+import java.text.Normalizer;
+
+/**
+ * Generador de textos representativos para los benchmarks.
+ * Cada tipo repite un conjunto de frases hasta alcanzar el tamaño pedido.
+ */
+final class Corpus {
+
+    private static final String[] PROSA = {
+            "La inclusión de personas con discapacidad visual requiere señalética accesible en todos los edificios. ",
+            "El sistema traduce el texto a Braille de forma simple, rápida y a bajo costo, sin necesidad de imprenta. ",
+            "En la biblioteca de la Escuela, cada estantería tiene una etiqueta con su número y su categoría. ",
+            "Antes de imprimir, revise que la traducción sea correcta y que el tamaño de la celda cumpla la norma. "
+    };
+
+    // Prosa sin mayúsculas, dígitos ni acentos: todo el texto es un tramo simple
+    private static final String[] MINUSCULAS = {
+            "el sistema traduce el texto a braille de forma simple y a bajo costo, sin necesidad de imprenta. ",
+            "cada estante tiene una etiqueta con su nombre; la sala de lectura queda al fondo del pasillo. ",
+            "antes de imprimir, revise que la celda cumpla la norma y que el papel sea el adecuado. "
+    };
+
+    private static final String[] TABLA_NUMERICA = {
+            "Aula 101; capacidad 45; piso 1; ala 3.\n",
+            "Oficina 2024, extensión 3587, horario 08:00-17:30.\n",
+            "Total: 1.250,75 + 320,10 = 1.570,85\n",
+            "Lote 7, fila 12, asiento 38 (reservado)\n"
+    };
+
+    private static final String[] SENALETICA = {
+            "SALIDA DE EMERGENCIA ",
+            "BAÑO ",
+            "NO PASAR ",
+            "ESCALERAS ",
+            "PELIGRO ALTO VOLTAJE ",
+            "ASCENSOR "
+    };
+
+    private static final String[] ACENTOS = {
+            "Ñandú, pingüino, cigüeña y búho están aquí. ",
+            "¿Qué árbol tenía más raíces? ¡Éste, sin duda! ",
+            "Él comió camarón; ella prefirió el atún. ",
+            "Acción, canción, corazón, jamás, también. "
+    };
+
+    // Los mismos acentos escritos como letra + marca combinable, como llegan desde macOS
+    private static final String[] ACENTOS_NFD = new String[ACENTOS.length];
+
+    static {
+        for (int i = 0; i < ACENTOS.length; i++) {
+            ACENTOS_NFD[i] = Normalizer.normalize(ACENTOS[i], Normalizer.Form.NFD);
+        }
+    }
+
+    private Corpus() {
+    }
+
+    /**
+     * Genera un texto del tipo y tamaño indicados.
+     *
+     * @param tipo    PROSA, MINUSCULAS, TABLA_NUMERICA, SENALETICA, ACENTOS o ACENTOS_NFD.
+     * @param tamano  Número de caracteres del texto.
+     * @return El texto generado.
+     */
+    static String generar(String tipo, int tamano) {
+        String[] frases;
+        switch (tipo) {
+            case "PROSA":
+                frases = PROSA;
+                break;
+            case "MINUSCULAS":
+                frases = MINUSCULAS;
+                break;
+            case "TABLA_NUMERICA":
+                frases = TABLA_NUMERICA;
+                break;
+            case "SENALETICA":
+                frases = SENALETICA;
+                break;
+            case "ACENTOS":
+                frases = ACENTOS;
+                break;
+            case "ACENTOS_NFD":
+                frases = ACENTOS_NFD;
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo de corpus desconocido: " + tipo);
+        }
+
+        StringBuilder sb = new StringBuilder(tamano + 128);
+        int i = 0;
+        while (sb.length() < tamano) {
+            sb.append(frases[i++ % frases.length]);
+        }
+        sb.setLength(tamano);
+        return sb.toString();
+    }
+}
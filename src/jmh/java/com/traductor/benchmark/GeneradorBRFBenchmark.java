@@ -0,0 +1,65 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import com.traductor.service.GeneradorBRF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link GeneradorBRF}, escribiendo en un flujo que descarta
+ * los bytes para medir solo la conversión y la división en líneas y páginas.
+ * Compárese con {@link GeneradorPDFBenchmark} para el mismo texto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneradorBRFBenchmark {
+
+    @Param({"PROSA", "TABLA_NUMERICA", "SENALETICA", "ACENTOS"})
+    public String tipo;
+
+    @Param({"100", "10240", "1048576"})
+    public int tamano;
+
+    private String textoOriginal;
+    private String textoBraille;
+    private TraductorBraille traductor;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+        textoOriginal = Corpus.generar(tipo, tamano);
+        textoBraille = traductor.traducir(textoOriginal);
+    }
+
+    @Benchmark
+    public void generarBRF() throws IOException {
+        try (GeneradorBRF brf = new GeneradorBRF(OutputStream.nullOutputStream())) {
+            brf.append(textoBraille);
+        }
+    }
+
+    @Benchmark
+    public void traducirYGenerarBRF() throws IOException {
+        try (GeneradorBRF brf = new GeneradorBRF(OutputStream.nullOutputStream())) {
+            traductor.traducir(new StringReader(textoOriginal), brf);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import com.traductor.service.CachePDF;
+import com.traductor.service.GeneradorPDF;
+import com.traductor.service.GeneradorPDFContinuo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link GeneradorPDF#generarPDF(String, String, String, GeneradorPDF.ModoRenderizado)}.
+ * Los tamaños por defecto se limitan a 10 KB porque el generador maqueta
+ * todo el texto en un solo párrafo; se pueden ampliar con -p tamano=...
+ * También mide {@link GeneradorPDFContinuo} con el mismo texto y un
+ * acierto de {@link CachePDF}, que solo copia el PDF ya generado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneradorPDFBenchmark {
+
+    @Param({"PROSA", "TABLA_NUMERICA", "SENALETICA", "ACENTOS"})
+    public String tipo;
+
+    @Param({"100", "10240"})
+    public int tamano;
+
+    @Param({"FUENTE", "VECTORIAL"})
+    public GeneradorPDF.ModoRenderizado modo;
+
+    private String textoOriginal;
+    private String textoBraille;
+    private Path destino;
+    private Path directorioCache;
+    private CachePDF cache;
+
+    @Setup
+    public void preparar() throws IOException {
+        textoOriginal = Corpus.generar(tipo, Math.min(tamano, 100));
+        textoBraille = new TraductorBraille().traducir(Corpus.generar(tipo, tamano));
+        destino = Files.createTempFile("benchmark_braille_", ".pdf");
+        directorioCache = Files.createTempDirectory("benchmark_cache_");
+        cache = new CachePDF(directorioCache);
+        cache.generarPDF(textoOriginal, textoBraille, destino.toString(), modo);
+    }
+
+    @TearDown
+    public void limpiar() throws IOException {
+        Files.deleteIfExists(destino);
+        try (Stream<Path> archivos = Files.walk(directorioCache)) {
+            for (Path archivo : (Iterable<Path>) archivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public void generarPDF() throws IOException {
+        GeneradorPDF.generarPDF(textoOriginal, textoBraille, destino.toString(), modo);
+    }
+
+    @Benchmark
+    public void generarPDFContinuo() throws IOException {
+        GeneradorPDFContinuo.generarPDF(new StringReader(textoBraille), textoBraille.length(),
+                destino.toString(), modo, null);
+    }
+
+    @Benchmark
+    public boolean generarPDFDesdeCache() throws IOException {
+        return cache.generarPDF(textoOriginal, textoBraille, destino.toString(), modo);
+    }
+}
@@ -0,0 +1,80 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de regresión para la detección de palabras en mayúsculas.
+ * Los casos patológicos (un único token de 1 MB en mayúsculas o miles de
+ * palabras mixtas) deben escalar de forma lineal con el tamaño del texto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MayusculasBenchmark {
+
+    private static final int TAMANO = 1024 * 1024;
+
+    @Param({"TOKEN_MAYUSCULAS", "PALABRAS_MAYUSCULAS", "PALABRA_MIXTA"})
+    public String caso;
+
+    private TraductorBraille traductor;
+    private String texto;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+        texto = generar(caso);
+    }
+
+    @Benchmark
+    public String traducir() {
+        return traductor.traducir(texto);
+    }
+
+    /**
+     * Genera un texto patológico de 1 MB para el caso indicado.
+     *
+     * @param caso El nombre del caso.
+     * @return El texto generado.
+     */
+    static String generar(String caso) {
+        StringBuilder sb = new StringBuilder(TAMANO);
+        switch (caso) {
+            case "TOKEN_MAYUSCULAS":
+                // Un único identificador en mayúsculas sin espacios
+                while (sb.length() < TAMANO) {
+                    sb.append((char) ('A' + sb.length() % 26));
+                }
+                break;
+            case "PALABRAS_MAYUSCULAS":
+                while (sb.length() < TAMANO) {
+                    sb.append("SALIDA DE EMERGENCIA PISO ");
+                }
+                break;
+            default:
+                // Una palabra enorme que alterna mayúsculas y minúsculas
+                while (sb.length() < TAMANO) {
+                    sb.append(sb.length() % 2 == 0 ? 'A' : 'b');
+                }
+                break;
+        }
+        sb.setLength(TAMANO);
+        return sb.toString();
+    }
+}
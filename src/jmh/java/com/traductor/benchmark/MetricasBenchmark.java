@@ -0,0 +1,80 @@
+package com.traductor.benchmark;
+
+import com.traductor.metricas.Metricas;
+import com.traductor.model.TraductorBraille;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de las métricas en {@link TraductorBraille#traducir(String)}: la
+ * misma traducción con las métricas habilitadas, deshabilitadas y con
+ * eventos JFR (sin grabación activa). Los textos cortos son el peor caso,
+ * porque el registro se hace una vez por llamada. Con varios hilos se mide
+ * además la contención en los contadores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricasBenchmark {
+
+    @Param({"SENALETICA", "PROSA"})
+    public String tipo;
+
+    @Param({"32", "1024"})
+    public int tamano;
+
+    private TraductorBraille traductor;
+    private String texto;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+        texto = Corpus.generar(tipo, tamano);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dtraductor.metricas=false")
+    public String sinMetricas() {
+        return traductor.traducir(texto);
+    }
+
+    @Benchmark
+    public String conMetricas() {
+        return traductor.traducir(texto);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dtraductor.metricas.jfr=true")
+    public String conEventosJFR() {
+        return traductor.traducir(texto);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String conMetricasCuatroHilos() {
+        return traductor.traducir(texto);
+    }
+
+    /**
+     * Lectura de las métricas, como la haría un cliente JMX.
+     */
+    @Benchmark
+    public Object leerResumen() {
+        return Metricas.obtener().getLatenciaTraduccion();
+    }
+}
@@ -0,0 +1,85 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import com.traductor.service.ServidorTraduccion;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prueba de carga de {@link ServidorTraduccion} contra localhost.
+ * Lanza muchas peticiones pequeñas a /translate con un número fijo de
+ * peticiones simultáneas y reporta peticiones/s, latencias y errores.
+ *
+ * <pre>
+ * mvn -Pbenchmark package exec:exec -Dbenchmark.main=com.traductor.benchmark.PruebaCargaServidor \
+ *     -Dbenchmark.args="50000 2000"
+ * </pre>
+ */
+public class PruebaCargaServidor {
+
+    private static final String[] TEXTOS = {"Baño", "Salida de emergencia", "Aula 101", "ASCENSOR", "Piso 3"};
+
+    public static void main(String[] args) throws Exception {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int simultaneas = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        // Sin esto el servidor cierra conexiones keep-alive que el cliente reutiliza
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(simultaneas));
+        ServidorTraduccion servidor = new ServidorTraduccion(new TraductorBraille(), 0);
+        servidor.iniciar();
+        try {
+            URI uri = URI.create("http://localhost:" + servidor.getPuerto() + "/translate");
+            HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // Calentamiento
+            ejecutar(cliente, uri, Math.min(total, 2000), Math.min(simultaneas, 100));
+
+            long inicio = System.nanoTime();
+            long[] latencias = ejecutar(cliente, uri, total, simultaneas);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            Arrays.sort(latencias);
+            System.out.printf("Peticiones: %d, simultáneas: %d, errores: %d%n", total, simultaneas, errores.get());
+            System.out.printf("Rendimiento: %.0f peticiones/s%n", total / segundos);
+            System.out.printf("Latencia p50: %.2f ms, p99: %.2f ms, máx: %.2f ms%n",
+                    latencias[total / 2] / 1e6, latencias[(int) (total * 0.99)] / 1e6, latencias[total - 1] / 1e6);
+        } finally {
+            servidor.detener();
+        }
+    }
+
+    private static final AtomicInteger errores = new AtomicInteger();
+
+    private static long[] ejecutar(HttpClient cliente, URI uri, int total, int simultaneas) throws InterruptedException {
+        errores.set(0);
+        long[] latencias = new long[total];
+        Semaphore permisos = new Semaphore(simultaneas);
+        CountDownLatch pendientes = new CountDownLatch(total);
+
+        for (int i = 0; i < total; i++) {
+            permisos.acquire();
+            int indice = i;
+            long inicio = System.nanoTime();
+            HttpRequest peticion = HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.ofString(TEXTOS[i % TEXTOS.length]))
+                    .build();
+            cliente.sendAsync(peticion, HttpResponse.BodyHandlers.ofString()).whenComplete((respuesta, error) -> {
+                latencias[indice] = System.nanoTime() - inicio;
+                if (error != null || respuesta.statusCode() != 200) {
+                    errores.incrementAndGet();
+                }
+                permisos.release();
+                pendientes.countDown();
+            });
+        }
+        pendientes.await();
+        return latencias;
+    }
+}
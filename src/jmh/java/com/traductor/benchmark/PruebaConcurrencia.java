@@ -0,0 +1,129 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.DiccionarioBraille;
+import com.traductor.model.TraductorBraille;
+import com.traductor.model.TraductorInverso;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prueba de estrés de la traducción concurrente: muchos hilos traducen a la
+ * vez con una sola instancia de {@link TraductorBraille} y de
+ * {@link TraductorInverso}, y cada resultado se compara con el obtenido
+ * antes en un solo hilo. También comprueba que los hilos que piden el
+ * diccionario a la vez reciben la misma instancia.
+ *
+ * <p>{@code mvn test} la ejecuta con pocos hilos y falla si hay alguna
+ * discrepancia. Para una corrida más larga:</p>
+ *
+ * <pre>
+ * mvn test -Dpruebas.concurrencia.args="16 2000"
+ * </pre>
+ */
+public class PruebaConcurrencia {
+
+    private static final String[] TIPOS = {"PROSA", "TABLA_NUMERICA", "SENALETICA", "ACENTOS", "ACENTOS_NFD"};
+    private static final int[] TAMANOS = {1, 17, 256, 4096};
+
+    public static void main(String[] args) throws Exception {
+        int hilos = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int iteraciones = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            // Primer acceso al diccionario desde todos los hilos a la vez
+            CountDownLatch salida = new CountDownLatch(1);
+            List<Future<DiccionarioBraille>> diccionarios = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                diccionarios.add(ejecutor.submit(() -> {
+                    salida.await();
+                    return DiccionarioBraille.obtenerInstancia();
+                }));
+            }
+            salida.countDown();
+            int instanciasDistintas = 0;
+            for (Future<DiccionarioBraille> diccionario : diccionarios) {
+                if (diccionario.get() != DiccionarioBraille.obtenerInstancia()) {
+                    instanciasDistintas++;
+                }
+            }
+
+            // Resultados de referencia en un solo hilo
+            TraductorBraille traductor = new TraductorBraille();
+            TraductorInverso inverso = new TraductorInverso();
+            List<String> textos = new ArrayList<>();
+            for (String tipo : TIPOS) {
+                for (int tamano : TAMANOS) {
+                    textos.add(Corpus.generar(tipo, tamano));
+                }
+            }
+            String[] esperados = new String[textos.size()];
+            String[] esperadosInversos = new String[textos.size()];
+            for (int t = 0; t < textos.size(); t++) {
+                esperados[t] = traductor.traducir(textos.get(t));
+                esperadosInversos[t] = inverso.traducir(esperados[t]).getTexto();
+            }
+
+            AtomicInteger discrepancias = new AtomicInteger();
+            CountDownLatch inicio = new CountDownLatch(1);
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int desplazamiento = h;
+                tareas.add(ejecutor.submit(() -> {
+                    inicio.await();
+                    for (int i = 0; i < iteraciones; i++) {
+                        // Cada hilo recorre los textos en un orden distinto
+                        int t = (i + desplazamiento) % esperados.length;
+                        String texto = textos.get(t);
+                        if (!esperados[t].equals(traductor.traducir(texto))) {
+                            discrepancias.incrementAndGet();
+                        }
+                        if (!esperados[t].equals(traducirPorFlujo(traductor, texto))) {
+                            discrepancias.incrementAndGet();
+                        }
+                        if (!esperadosInversos[t].equals(inverso.traducir(esperados[t]).getTexto())) {
+                            discrepancias.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long comienzo = System.nanoTime();
+            inicio.countDown();
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            double segundos = (System.nanoTime() - comienzo) / 1e9;
+
+            long traducciones = 3L * hilos * iteraciones;
+            System.out.printf("Hilos: %d, traducciones: %d en %.2f s%n", hilos, traducciones, segundos);
+            System.out.printf("Instancias distintas del diccionario: %d, discrepancias: %d%n",
+                    instanciasDistintas, discrepancias.get());
+            if (instanciasDistintas > 0 || discrepancias.get() > 0) {
+                System.exit(1);
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    private static String traducirPorFlujo(TraductorBraille traductor, String texto) {
+        StringBuilder resultado = new StringBuilder();
+        try {
+            traductor.traducir(new StringReader(texto), resultado);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return resultado.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.DocumentoTraducido;
+import com.traductor.model.ITraductor;
+import com.traductor.model.TraductorBraille;
+import com.traductor.model.TraductorReglas;
+import com.traductor.model.TranscodificadorUTF8;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/**
+ * Prueba diferencial: traduce textos aleatorios por varios caminos y
+ * compara cada resultado con el de {@link TraductorBraille#traducir(String)}.
+ * Los textos mezclan minúsculas, mayúsculas, acentos precompuestos y como
+ * marca combinable (U+0301, U+0303, U+0308), mayúsculas que no son letras
+ * (U+2160, U+24B6), dígitos ASCII y de otros sistemas (U+0663, U+0967),
+ * signos y caracteres sin celda. Los documentos se leen con filas de
+ * {@value #ANCHO_FILA} caracteres para que muchas palabras se corten entre
+ * filas; el transcodificador pasa por dos archivos temporales.
+ *
+ * <p>{@code mvn test} la ejecuta con pocos textos y falla si hay alguna
+ * discrepancia. Para una corrida más larga:</p>
+ *
+ * <pre>
+ * mvn test -Dpruebas.diferencial.args="100000 42"
+ * </pre>
+ */
+public class PruebaDiferencial {
+
+    private static final String ALFABETO = "abcxyzABCXYZñÑáéíóúÁÉüÜç中"
+            + "\u0301\u0303\u0308"
+            + "\u2160\u24B6"
+            + "0123456789٣٤۵०१"
+            + "     ,.;:?¿!¡()-#%@\"'\n";
+    private static final int LONGITUD_MAXIMA = 40;
+    private static final int EJEMPLOS = 5;
+    private static final int ANCHO_FILA = 8;
+
+    public static void main(String[] args) throws IOException {
+        int textos = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long semilla = args.length > 1 ? Long.parseLong(args[1]) : 42;
+
+        ITraductor referencia = new TraductorBraille();
+        Map<String, UnaryOperator<String>> caminos = new LinkedHashMap<>();
+        caminos.put("TraductorReglas", new TraductorReglas()::traducir);
+        caminos.put("Lector", texto -> traducirLector(referencia, texto));
+        caminos.put("DocumentoTraducido", texto -> traducirDocumento(referencia, texto));
+        Path entrada = Files.createTempFile("diferencial", ".txt");
+        Path salida = Files.createTempFile("diferencial", ".braille");
+        entrada.toFile().deleteOnExit();
+        salida.toFile().deleteOnExit();
+        TranscodificadorUTF8 transcodificador = new TranscodificadorUTF8();
+        caminos.put("TranscodificadorUTF8", texto -> transcodificar(transcodificador, texto, entrada, salida));
+
+        Random aleatorio = new Random(semilla);
+        Map<String, Integer> discrepancias = new LinkedHashMap<>();
+        for (int t = 0; t < textos; t++) {
+            String texto = generar(aleatorio);
+            String esperado = referencia.traducir(texto);
+            for (Map.Entry<String, UnaryOperator<String>> camino : caminos.entrySet()) {
+                String obtenido = camino.getValue().apply(texto);
+                if (!esperado.equals(obtenido)) {
+                    int n = discrepancias.merge(camino.getKey(), 1, Integer::sum);
+                    if (n <= EJEMPLOS) {
+                        System.out.printf("%s: %s%n  esperado: %s%n  obtenido: %s%n", camino.getKey(),
+                                escapar(texto), escapar(esperado), escapar(obtenido));
+                    }
+                }
+            }
+        }
+
+        System.out.printf("Textos: %d, semilla: %d%n", textos, semilla);
+        for (String camino : caminos.keySet()) {
+            System.out.printf("%s: %d discrepancias%n", camino, discrepancias.getOrDefault(camino, 0));
+        }
+        if (!discrepancias.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static String traducirLector(ITraductor traductor, String texto) {
+        StringBuilder resultado = new StringBuilder();
+        try {
+            traductor.traducir(new StringReader(texto), resultado);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return resultado.toString();
+    }
+
+    private static String transcodificar(TranscodificadorUTF8 transcodificador, String texto,
+                                         Path entrada, Path salida) {
+        try {
+            Files.writeString(entrada, texto, StandardCharsets.UTF_8);
+            transcodificador.transcodificar(entrada, salida);
+            return Files.readString(salida, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String traducirDocumento(ITraductor traductor, String texto) {
+        StringBuilder resultado = new StringBuilder();
+        try {
+            DocumentoTraducido.leer(new StringReader(texto), traductor, ANCHO_FILA).traducir(resultado);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return resultado.toString();
+    }
+
+    private static String generar(Random aleatorio) {
+        int longitud = aleatorio.nextInt(LONGITUD_MAXIMA + 1);
+        StringBuilder texto = new StringBuilder(longitud);
+        for (int i = 0; i < longitud; i++) {
+            texto.append(ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length())));
+        }
+        return texto.toString();
+    }
+
+    private static String escapar(String texto) {
+        StringBuilder resultado = new StringBuilder();
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x20 || (c > 0x7E && c < 0xA0) || Character.getType(c) == Character.NON_SPACING_MARK
+                    || (c > 0x0600 && c < 0x0A00)) {
+                resultado.append(String.format("\\u%04X", (int) c));
+            } else {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+}
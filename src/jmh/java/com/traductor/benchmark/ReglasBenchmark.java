@@ -0,0 +1,71 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TablaReglas;
+import com.traductor.model.TraductorReglas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link TraductorReglas} con la tabla por defecto más un
+ * número creciente de reglas de varios caracteres ({@code always} y
+ * {@code word}) generadas al azar. El costo por carácter debe depender de
+ * la longitud de las reglas y no de cuántas haya.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReglasBenchmark {
+
+    @Param({"PROSA", "SENALETICA"})
+    public String tipo;
+
+    @Param({"0", "1000", "100000"})
+    public int reglasExtra;
+
+    private TraductorReglas traductor;
+    private String texto;
+
+    @Setup
+    public void preparar() throws IOException {
+        StringBuilder tabla = new StringBuilder();
+        try (InputStream recurso = TablaReglas.class.getResourceAsStream(TablaReglas.TABLA_POR_DEFECTO)) {
+            tabla.append(new String(recurso.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < reglasExtra; i++) {
+            StringBuilder secuencia = new StringBuilder();
+            int longitud = 2 + aleatorio.nextInt(7);
+            for (int j = 0; j < longitud; j++) {
+                secuencia.append((char) ('a' + aleatorio.nextInt(26)));
+            }
+            tabla.append(i % 2 == 0 ? "always " : "word ").append(secuencia)
+                    .append(' ').append(1 + aleatorio.nextInt(6)).append('\n');
+        }
+        traductor = new TraductorReglas(TablaReglas.cargar(new StringReader(tabla.toString()), "benchmark"));
+        texto = Corpus.generar(tipo, 1048576);
+    }
+
+    @Benchmark
+    public String traducir() {
+        return traductor.traducir(texto);
+    }
+}
@@ -0,0 +1,62 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.SimboloBraille;
+import com.traductor.model.TraductorBraille;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link TraductorBraille#getSimbolo(char)} y de la
+ * obtención de {@link SimboloBraille} a partir de su código y de su
+ * carácter Unicode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimboloBenchmark {
+
+    private static final String CARACTERES = "abcdefghijklmnñopqrstuvwxyzáéíóúü0123456789 .,;:?!-()";
+    private static final String[] CODIGOS = {"1", "12", "14", "145", "12456", "3456", "46", "23456"};
+
+    private TraductorBraille traductor;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+    }
+
+    @Benchmark
+    public void getSimbolo(Blackhole bh) {
+        for (int i = 0; i < CARACTERES.length(); i++) {
+            bh.consume(traductor.getSimbolo(CARACTERES.charAt(i)));
+        }
+    }
+
+    @Benchmark
+    public void desdeCodigo(Blackhole bh) {
+        for (String codigo : CODIGOS) {
+            bh.consume(SimboloBraille.desdeCodigo(codigo));
+        }
+    }
+
+    @Benchmark
+    public void desdeUnicode(Blackhole bh) {
+        for (char celda = '\u2800'; celda <= '\u28FF'; celda++) {
+            bh.consume(SimboloBraille.desdeUnicode(celda).obtenerCodigoPatron());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import com.traductor.model.TraductorParalelo;
+import com.traductor.model.TraductorReglas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de rendimiento de {@link TraductorBraille#traducir(String)}
+ * sobre los distintos tipos de texto y tamaños (100 B a 50 MB).
+ * Con el perfilador gc (activo por defecto en el perfil benchmark) se
+ * reporta también gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TraduccionBenchmark {
+
+    @Param({"PROSA", "TABLA_NUMERICA", "SENALETICA", "ACENTOS", "ACENTOS_NFD"})
+    public String tipo;
+
+    @Param({"100", "10240", "1048576", "52428800"})
+    public int tamano;
+
+    private TraductorBraille traductor;
+    private TraductorParalelo traductorParalelo;
+    private TraductorReglas traductorReglas;
+    private String texto;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+        traductorParalelo = new TraductorParalelo();
+        traductorReglas = new TraductorReglas();
+        texto = Corpus.generar(tipo, tamano);
+    }
+
+    @Benchmark
+    public String traducir() {
+        return traductor.traducir(texto);
+    }
+
+    @Benchmark
+    public String traducirEnParalelo() {
+        return traductorParalelo.traducir(texto);
+    }
+
+    @Benchmark
+    public String traducirConReglas() {
+        return traductorReglas.traducir(texto);
+    }
+}
@@ -0,0 +1,58 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link TraductorBraille#traducir(String)} con los tramos
+ * simples traducidos por la Vector API frente a la versión escalar. Cada
+ * variante corre en su propia JVM: la vectorial con el módulo
+ * {@code jdk.incubator.vector} y la escalar con
+ * {@code -Dtraductor.vectorial=false}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TramoSimpleBenchmark {
+
+    @Param({"MINUSCULAS", "PROSA", "ACENTOS"})
+    public String tipo;
+
+    @Param({"10240", "1048576"})
+    public int tamano;
+
+    private TraductorBraille traductor;
+    private String texto;
+
+    @Setup
+    public void preparar() {
+        traductor = new TraductorBraille();
+        texto = Corpus.generar(tipo, tamano);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public String vectorial() {
+        return traductor.traducir(texto);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dtraductor.vectorial=false")
+    public String escalar() {
+        return traductor.traducir(texto);
+    }
+}
@@ -0,0 +1,79 @@
+package com.traductor.benchmark;
+
+import com.traductor.model.TraductorBraille;
+import com.traductor.model.TranscodificadorUTF8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la traducción de archivo a archivo: {@link TranscodificadorUTF8}
+ * sobre los bytes proyectados en memoria frente al camino de
+ * {@code AppConsola} con lector y escritor UTF-8. Los archivos quedan en la
+ * caché del sistema tras la primera iteración, así que se mide la CPU y no
+ * el disco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranscodificadorBenchmark {
+
+    @Param({"PROSA", "TABLA_NUMERICA", "SENALETICA", "ACENTOS", "ACENTOS_NFD"})
+    public String tipo;
+
+    @Param({"1048576", "52428800"})
+    public int tamano;
+
+    private TraductorBraille traductor;
+    private TranscodificadorUTF8 transcodificador;
+    private Path entrada;
+    private Path salida;
+
+    @Setup
+    public void preparar() throws IOException {
+        traductor = new TraductorBraille();
+        transcodificador = new TranscodificadorUTF8();
+        entrada = Files.createTempFile("benchmark", ".txt");
+        salida = Files.createTempFile("benchmark", ".braille.txt");
+        Files.writeString(entrada, Corpus.generar(tipo, tamano), StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void limpiar() throws IOException {
+        Files.deleteIfExists(entrada);
+        Files.deleteIfExists(salida);
+    }
+
+    @Benchmark
+    public long transcodificar() throws IOException {
+        return transcodificador.transcodificar(entrada, salida);
+    }
+
+    @Benchmark
+    public void lectorYEscritor() throws IOException {
+        try (Reader lector = Files.newBufferedReader(entrada, StandardCharsets.UTF_8);
+             BufferedWriter escritor = Files.newBufferedWriter(salida, StandardCharsets.UTF_8)) {
+            traductor.traducir(lector, escritor);
+        }
+    }
+}
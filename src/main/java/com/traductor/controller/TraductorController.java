@@ -1,11 +1,25 @@
 package com.traductor.controller;
 
+import com.traductor.model.DocumentoTraducido;
 import com.traductor.model.ITraductor;
+import com.traductor.model.TraduccionIncremental;
+import com.traductor.model.TraductorBraille;
 import com.traductor.service.GeneradorPDF;
+import com.traductor.service.GeneradorPDFContinuo;
+import com.traductor.service.ProgresoExportacion;
+import com.traductor.view.VisorBraille;
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
+import javafx.scene.control.TextFormatter;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
@@ -13,23 +27,96 @@ import javafx.stage.StageStyle;
 import javafx.util.Duration;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Controlador FXML que gestiona la interacción entre la vista y el modelo.
  *
+ * <p>La traducción se hace en un hilo aparte para no bloquear la interfaz.
+ * Con la traducción automática activada, los cambios del texto de entrada
+ * se acumulan y, tras una pausa al escribir, solo se vuelve a traducir la
+ * zona editada con {@link TraduccionIncremental}.</p>
+ *
+ * <p>Las exportaciones a PDF se encolan y se generan una tras otra en otro
+ * hilo; cada una muestra su avance en la lista de exportaciones y se puede
+ * cancelar mientras se sigue editando.</p>
+ *
+ * <p>Los documentos abiertos desde un archivo no pasan por los campos de
+ * texto: se traducen en segundo plano y se muestran en un
+ * {@link VisorBraille}, que solo dibuja las filas visibles.</p>
+ *
  * @see ITraductor
  */
 public class TraductorController {
+    // Pausa al escribir antes de traducir los cambios
+    private static final Duration RETARDO_TRADUCCION = Duration.millis(200);
+
+    private static final String MENSAJE_TEXTO_VACIO = "Por favor ingrese texto para traducir";
+
+    // Caracteres del texto original por fila del visor de documentos
+    private static final int ANCHO_FILA_DOCUMENTO = 30;
+
     @FXML
     private TextArea textoEntrada;
 
     @FXML
     private TextArea textoSalida;
 
+    @FXML
+    private CheckBox traduccionAutomatica;
+
+    @FXML
+    private VBox listaExportaciones;
+
+    @FXML
+    private VBox panelTexto;
+
+    @FXML
+    private VisorBraille visorDocumento;
+
+    @FXML
+    private Button btnCerrarDocumento;
+
     private ITraductor traductor;
 
+    // Un solo hilo: las traducciones se aplican en el mismo orden en que se piden
+    private final ExecutorService ejecutorTraduccion = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "traduccion");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    // Las exportaciones se generan de una en una, en el orden en que se piden
+    private final ExecutorService ejecutorExportacion = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "exportacion-pdf");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    private final PauseTransition esperaTraduccion = new PauseTransition(RETARDO_TRADUCCION);
+
+    // Solo se usa desde el hilo de traducción; null si el traductor no la admite
+    private TraduccionIncremental traduccionIncremental;
+    private boolean incrementalDisponible;
+
+    // Edición pendiente desde la última traducción (solo hilo de JavaFX): en el
+    // texto traducido, el rango [inicioPendiente, finPendiente) pasó a ocupar
+    // [inicioPendiente, finPendiente + diferenciaPendiente) en el texto actual
+    private int inicioPendiente = -1;
+    private int finPendiente;
+    private int diferenciaPendiente;
+
+    // Cambia cada vez que la salida se reemplaza entera, para descartar parches viejos
+    private long generacion;
+    private boolean salidaSincronizada;
+
     /**
      * Constructor sin argumentos requerido por FXML.
      */
@@ -43,6 +130,12 @@ public class TraductorController {
      */
     public void setTraductor(ITraductor traductor) {
         this.traductor = traductor;
+        // La traducción incremental necesita traducir rangos del texto
+        TraduccionIncremental incremental = traductor instanceof TraductorBraille
+                ? new TraduccionIncremental((TraductorBraille) traductor) : null;
+        ejecutorTraduccion.execute(() -> traduccionIncremental = incremental);
+        incrementalDisponible = incremental != null;
+        salidaSincronizada = false;
     }
 
     /**
@@ -50,7 +143,15 @@ public class TraductorController {
      */
     @FXML
     private void initialize() {
-        // Inicialización adicional si es necesaria
+        textoEntrada.setTextFormatter(new TextFormatter<>(this::registrarCambio));
+        esperaTraduccion.setOnFinished(evento -> traducirCambios());
+        traduccionAutomatica.selectedProperty().addListener((propiedad, antes, activa) -> {
+            if (activa) {
+                traducirTodo();
+            } else {
+                esperaTraduccion.stop();
+            }
+        });
     }
 
     /**
@@ -62,12 +163,13 @@ public class TraductorController {
         String texto = textoEntrada.getText();
 
         if (texto == null || texto.trim().isEmpty()) {
-            textoSalida.setText("Por favor ingrese texto para traducir");
+            generacion++;
+            salidaSincronizada = false;
+            textoSalida.setText(MENSAJE_TEXTO_VACIO);
             return;
         }
 
-        String resultado = traductor.traducir(texto);
-        textoSalida.setText(resultado);
+        traducirTodo();
     }
 
     /**
@@ -78,6 +180,172 @@ public class TraductorController {
     private void limpiarTexto() {
         textoEntrada.clear();
         textoSalida.clear();
+        // El texto vacío ya está traducido
+        generacion++;
+        inicioPendiente = -1;
+        salidaSincronizada = true;
+        ejecutorTraduccion.execute(() -> {
+            if (traduccionIncremental != null) {
+                traduccionIncremental.reiniciar("");
+            }
+        });
+    }
+
+    /**
+     * Registra cada cambio del texto de entrada, combinándolo con los
+     * pendientes, y reinicia la espera de la traducción automática.
+     *
+     * @param cambio El cambio propuesto por el control.
+     * @return El mismo cambio, sin modificar.
+     */
+    private TextFormatter.Change registrarCambio(TextFormatter.Change cambio) {
+        if (!cambio.isContentChange() || !traduccionAutomatica.isSelected()) {
+            return cambio;
+        }
+        int inicio = cambio.getRangeStart();
+        int fin = cambio.getRangeEnd();
+        int diferencia = cambio.getText().length() - (fin - inicio);
+        if (inicioPendiente < 0) {
+            inicioPendiente = inicio;
+            finPendiente = fin;
+            diferenciaPendiente = diferencia;
+        } else {
+            // Pasado el rango pendiente, el texto actual es el traducido desplazado
+            inicioPendiente = Math.min(inicioPendiente, inicio);
+            finPendiente = Math.max(finPendiente, fin - diferenciaPendiente);
+            diferenciaPendiente += diferencia;
+        }
+        esperaTraduccion.playFromStart();
+        return cambio;
+    }
+
+    /**
+     * Traduce en segundo plano los cambios pendientes y aplica el resultado
+     * como un parche sobre la salida.
+     */
+    private void traducirCambios() {
+        if (inicioPendiente < 0) {
+            return;
+        }
+        if (!salidaSincronizada || !incrementalDisponible) {
+            traducirTodo();
+            return;
+        }
+
+        String texto = textoEntrada.getText();
+        int inicio = inicioPendiente;
+        int finAnterior = finPendiente;
+        int finNuevo = finPendiente + diferenciaPendiente;
+        inicioPendiente = -1;
+        long generacionActual = generacion;
+
+        ejecutorTraduccion.execute(() -> {
+            TraduccionIncremental.Parche parche;
+            try {
+                parche = traduccionIncremental.actualizar(texto, inicio, finAnterior, finNuevo);
+            } catch (IllegalArgumentException e) {
+                // El estado no corresponde al texto: se traduce todo de nuevo
+                String resultado = traduccionIncremental.reiniciar(texto);
+                Platform.runLater(() -> {
+                    if (generacion == generacionActual) {
+                        textoSalida.setText(resultado);
+                    }
+                });
+                return;
+            }
+            Platform.runLater(() -> {
+                if (generacion == generacionActual) {
+                    textoSalida.replaceText(parche.getInicio(), parche.getFin(), parche.getTexto());
+                }
+            });
+        });
+    }
+
+    /**
+     * Traduce en segundo plano todo el texto de entrada y reemplaza la salida.
+     */
+    private void traducirTodo() {
+        String texto = textoEntrada.getText();
+        inicioPendiente = -1;
+        esperaTraduccion.stop();
+        long generacionActual = ++generacion;
+        salidaSincronizada = true;
+
+        ejecutorTraduccion.execute(() -> {
+            String resultado = traduccionIncremental != null
+                    ? traduccionIncremental.reiniciar(texto) : traductor.traducir(texto);
+            Platform.runLater(() -> {
+                if (generacion == generacionActual) {
+                    textoSalida.setText(resultado);
+                }
+            });
+        });
+    }
+
+    /**
+     * Abre un archivo de texto, lo traduce en segundo plano y lo muestra en
+     * el visor de documentos en lugar de los campos de texto.
+     * Este método es invocado cuando se hace clic en el botón "Abrir documento".
+     */
+    @FXML
+    private void abrirDocumento() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Abrir documento");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Archivos de texto (*.txt)", "*.txt"),
+                new FileChooser.ExtensionFilter("Todos los archivos", "*.*"));
+        File archivo = fileChooser.showOpenDialog(textoSalida.getScene().getWindow());
+        if (archivo == null) {
+            return;
+        }
+
+        ITraductor traductorDocumento = traductor;
+        Task<DocumentoTraducido> tarea = new Task<DocumentoTraducido>() {
+            @Override
+            protected DocumentoTraducido call() throws IOException {
+                updateMessage("Traduciendo...");
+                try (Reader lector = Files.newBufferedReader(archivo.toPath(), StandardCharsets.UTF_8)) {
+                    return DocumentoTraducido.leer(lector, traductorDocumento, ANCHO_FILA_DOCUMENTO);
+                }
+            }
+        };
+
+        HBox fila = agregarFilaTarea(archivo.getName(), tarea);
+        tarea.setOnSucceeded(evento -> {
+            listaExportaciones.getChildren().remove(fila);
+            mostrarDocumento(tarea.getValue());
+        });
+        tarea.setOnCancelled(evento -> listaExportaciones.getChildren().remove(fila));
+        tarea.setOnFailed(evento -> {
+            listaExportaciones.getChildren().remove(fila);
+            mostrarNotificacionMinimalista("No se pudo abrir el documento", "error");
+            tarea.getException().printStackTrace();
+        });
+        ejecutorTraduccion.execute(tarea);
+    }
+
+    /**
+     * Cierra el documento abierto y vuelve a mostrar los campos de texto.
+     * Este método es invocado cuando se hace clic en el botón "Cerrar documento".
+     */
+    @FXML
+    private void cerrarDocumento() {
+        mostrarDocumento(null);
+    }
+
+    /**
+     * Muestra un documento en el visor, o los campos de texto si es null.
+     *
+     * @param documento El documento a mostrar.
+     */
+    private void mostrarDocumento(DocumentoTraducido documento) {
+        boolean abierto = documento != null;
+        visorDocumento.mostrar(documento);
+        visorDocumento.setVisible(abierto);
+        visorDocumento.setManaged(abierto);
+        panelTexto.setVisible(!abierto);
+        panelTexto.setManaged(!abierto);
+        btnCerrarDocumento.setDisable(!abierto);
     }
 
     /**
@@ -86,14 +354,36 @@ public class TraductorController {
      */
     @FXML
     private void descargarPDF() {
-        String textoOriginal = textoEntrada.getText();
-        String textoBraille = textoSalida.getText();
+        DocumentoTraducido documento = visorDocumento.getDocumento();
+        GeneracionPDF generacion;
+        if (documento != null) {
+            // Las filas del visor se traducen por separado: el PDF se traduce de
+            // nuevo desde el original, por flujo y con memoria constante
+            generacion = (ruta, progreso) -> {
+                long[] paginas = {0};
+                try (GeneradorPDFContinuo pdf = new GeneradorPDFContinuo(ruta, GeneradorPDF.ModoRenderizado.FUENTE,
+                        -1, (procesados, total) -> progreso.actualizar(++paginas[0], -1))) {
+                    documento.traducir(pdf);
+                }
+            };
+        } else {
+            String original = textoEntrada.getText();
+            String braille = textoSalida.getText();
 
-        // Validar que hay contenido para exportar
-        if (textoBraille == null || textoBraille.trim().isEmpty() ||
-                textoBraille.equals("Por favor ingrese texto para traducir")) {
-            mostrarNotificacionMinimalista("Por favor traduce un texto antes de descargar", "warning");
-            return;
+            // Validar que hay contenido para exportar
+            if (braille == null || braille.trim().isEmpty() ||
+                    braille.equals(MENSAJE_TEXTO_VACIO)) {
+                mostrarNotificacionMinimalista("Por favor traduce un texto antes de descargar", "warning");
+                return;
+            }
+            generacion = (ruta, progreso) -> {
+                if (braille.length() > GeneradorPDFContinuo.UMBRAL_CARACTERES) {
+                    GeneradorPDFContinuo.generarPDF(new StringReader(braille), braille.length(), ruta,
+                            GeneradorPDF.ModoRenderizado.FUENTE, progreso);
+                } else {
+                    GeneradorPDF.generarPDF(original, braille, ruta, GeneradorPDF.ModoRenderizado.FUENTE, progreso);
+                }
+            };
         }
 
         // Crear diálogo para guardar archivo
@@ -114,19 +404,86 @@ public class TraductorController {
         File archivo = fileChooser.showSaveDialog(textoSalida.getScene().getWindow());
 
         if (archivo != null) {
-            try {
-                // Generar el PDF
-                GeneradorPDF.generarPDF(textoOriginal, textoBraille, archivo.getAbsolutePath());
-
-                // Mostrar notificación minimalista de éxito
-                mostrarNotificacionMinimalista("PDF generado correctamente", "success");
+            encolarExportacion(generacion, archivo);
+        }
+    }
 
-            } catch (Exception e) {
-                // Mostrar notificación minimalista de error
-                mostrarNotificacionMinimalista("Error al generar el PDF", "error");
-                e.printStackTrace();
+    /**
+     * Encola la generación de un PDF en segundo plano y agrega su fila de
+     * avance a la lista de exportaciones. Los textos se fijan al encolar, así
+     * que se puede seguir editando. Los textos de más de
+     * {@link GeneradorPDFContinuo#UMBRAL_CARACTERES} caracteres y los
+     * documentos abiertos se exportan con {@link GeneradorPDFContinuo}, con
+     * memoria constante.
+     *
+     * @param generacion Genera el PDF; se llama en segundo plano.
+     * @param archivo    El archivo PDF a crear.
+     */
+    private void encolarExportacion(GeneracionPDF generacion, File archivo) {
+        Task<Void> tarea = new Task<Void>() {
+            @Override
+            protected Void call() throws IOException {
+                updateMessage("Generando...");
+                ProgresoExportacion progreso = (procesados, total) -> {
+                    if (isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    if (total < 0) {
+                        updateMessage("Página " + procesados);
+                    } else {
+                        updateProgress(procesados, total);
+                    }
+                };
+                try {
+                    generacion.generar(archivo.getAbsolutePath(), progreso);
+                } catch (RuntimeException | IOException e) {
+                    // No dejar un PDF a medias
+                    Files.deleteIfExists(archivo.toPath());
+                    throw e;
+                }
+                if (isCancelled()) {
+                    Files.deleteIfExists(archivo.toPath());
+                }
+                return null;
             }
-        }
+        };
+
+        HBox fila = agregarFilaTarea(archivo.getName(), tarea);
+        tarea.setOnSucceeded(evento -> {
+            listaExportaciones.getChildren().remove(fila);
+            mostrarNotificacionMinimalista("PDF generado correctamente", "success");
+        });
+        tarea.setOnCancelled(evento -> {
+            listaExportaciones.getChildren().remove(fila);
+            mostrarNotificacionMinimalista("Exportación cancelada", "warning");
+        });
+        tarea.setOnFailed(evento -> {
+            listaExportaciones.getChildren().remove(fila);
+            mostrarNotificacionMinimalista("Error al generar el PDF", "error");
+            tarea.getException().printStackTrace();
+        });
+        ejecutorExportacion.execute(tarea);
+    }
+
+    /**
+     * Agrega a la lista de exportaciones una fila con el avance de una tarea
+     * y un botón para cancelarla.
+     *
+     * @param nombre El nombre a mostrar (normalmente el del archivo).
+     * @param tarea  La tarea.
+     * @return La fila agregada, para quitarla cuando la tarea termine.
+     */
+    private HBox agregarFilaTarea(String nombre, Task<?> tarea) {
+        ProgressBar barra = new ProgressBar();
+        barra.progressProperty().bind(tarea.progressProperty());
+        Label estado = new Label("En cola");
+        tarea.messageProperty().addListener((propiedad, antes, mensaje) -> estado.setText(mensaje));
+        Button cancelar = new Button("Cancelar");
+        cancelar.setOnAction(evento -> tarea.cancel());
+        HBox fila = new HBox(10, new Label(nombre), barra, estado, cancelar);
+        fila.setAlignment(Pos.CENTER_LEFT);
+        listaExportaciones.getChildren().add(fila);
+        return fila;
     }
 
     /**
@@ -193,4 +550,17 @@ public class TraductorController {
                 return "#2196F3";
         }
     }
+
+    /**
+     * Genera un PDF en una ruta informando del avance.
+     */
+    @FunctionalInterface
+    private interface GeneracionPDF {
+        /**
+         * @param ruta     La ruta del archivo PDF a crear.
+         * @param progreso Quien recibe el avance.
+         * @throws IOException Si ocurre un error al crear o escribir el archivo.
+         */
+        void generar(String ruta, ProgresoExportacion progreso) throws IOException;
+    }
 }
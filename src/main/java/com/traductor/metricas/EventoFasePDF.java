@@ -0,0 +1,23 @@
+package com.traductor.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR de una fase de la generación de un PDF.
+ */
+@Name("com.traductor.FasePDF")
+@Label("Fase de generación de PDF")
+@Category("Traductor Braille")
+@Description("Tiempo de una fase de GeneradorPDF: fuentes, composición o escritura")
+class EventoFasePDF extends jdk.jfr.Event {
+    @Label("Fase")
+    String fase;
+
+    @Label("Duración medida")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanos;
+}
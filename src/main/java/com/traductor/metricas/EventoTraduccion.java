@@ -0,0 +1,26 @@
+package com.traductor.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR de una traducción a Braille.
+ */
+@Name("com.traductor.Traduccion")
+@Label("Traducción a Braille")
+@Category("Traductor Braille")
+@Description("Una llamada a la traducción de texto a Braille")
+class EventoTraduccion extends jdk.jfr.Event {
+    @Label("Caracteres")
+    long caracteres;
+
+    @Label("Caracteres sin traducir")
+    long sinTraducir;
+
+    @Label("Duración medida")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanos;
+}
@@ -0,0 +1,20 @@
+package com.traductor.metricas;
+
+/**
+ * Fases en que se mide la generación de un PDF.
+ */
+public enum FasePDF {
+    /**
+     * Obtención de las fuentes del registro.
+     */
+    FUENTES,
+    /**
+     * Composición del texto original y del Braille en páginas, incluidas las
+     * páginas que se escriben mientras se compone.
+     */
+    COMPOSICION,
+    /**
+     * Cierre del documento y escritura de lo que queda pendiente.
+     */
+    ESCRITURA
+}
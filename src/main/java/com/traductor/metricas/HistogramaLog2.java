@@ -0,0 +1,123 @@
+package com.traductor.metricas;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores positivos con cubos de potencias de dos: el cubo
+ * {@code i} cuenta los valores de {@code 2^(i-1)} a {@code 2^i - 1} (el
+ * cubo 0 cuenta el cero). Registrar un valor suma en contadores
+ * {@link LongAdder}, que reparten la contención entre hilos, sin bloqueos
+ * ni reservas de memoria.
+ *
+ * <p>Los percentiles del {@link ResumenHistograma} son la cota superior del
+ * cubo en que caen, así que pueden exceder el valor real hasta el doble.</p>
+ */
+public final class HistogramaLog2 {
+    private static final int CUBOS = 64;
+
+    private final LongAdder[] cubos = new LongAdder[CUBOS];
+    private final LongAdder suma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Inicializa un histograma vacío.
+     */
+    public HistogramaLog2() {
+        for (int i = 0; i < CUBOS; i++) {
+            cubos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra un valor. Los negativos se cuentan como cero.
+     *
+     * @param valor El valor a registrar.
+     */
+    public void registrar(long valor) {
+        registrar(valor, 1);
+    }
+
+    /**
+     * Registra un valor que representa a varios, por ejemplo una muestra de
+     * una de cada {@code peso} llamadas. Los negativos se cuentan como cero.
+     *
+     * @param valor El valor a registrar.
+     * @param peso  Cuántas veces se cuenta el valor.
+     */
+    public void registrar(long valor, long peso) {
+        long positivo = Math.max(valor, 0);
+        cubos[Math.min(CUBOS - Long.numberOfLeadingZeros(positivo), CUBOS - 1)].add(peso);
+        suma.add(positivo * peso);
+        maximo.accumulate(positivo);
+    }
+
+    /**
+     * @return Número de valores registrados.
+     */
+    public long cuenta() {
+        long cuenta = 0;
+        for (LongAdder cubo : cubos) {
+            cuenta += cubo.sum();
+        }
+        return cuenta;
+    }
+
+    /**
+     * @return Suma de los valores registrados.
+     */
+    public long suma() {
+        return suma.sum();
+    }
+
+    /**
+     * Vacía el histograma. Los valores registrados mientras se vacía pueden
+     * conservarse o perderse.
+     */
+    public void reiniciar() {
+        for (LongAdder cubo : cubos) {
+            cubo.reset();
+        }
+        suma.reset();
+        maximo.reset();
+    }
+
+    /**
+     * Calcula el resumen del histograma. No es una foto atómica: los valores
+     * registrados mientras se calcula pueden contarse o no.
+     *
+     * @return El resumen actual.
+     */
+    public ResumenHistograma resumen() {
+        long[] cuentas = new long[CUBOS];
+        long cuenta = 0;
+        for (int i = 0; i < CUBOS; i++) {
+            cuentas[i] = cubos[i].sum();
+            cuenta += cuentas[i];
+        }
+        long total = suma.sum();
+        return new ResumenHistograma(cuenta, total, cuenta == 0 ? 0 : (double) total / cuenta,
+                percentil(cuentas, cuenta, 0.50), percentil(cuentas, cuenta, 0.90),
+                percentil(cuentas, cuenta, 0.99), maximo.get());
+    }
+
+    /**
+     * Busca la cota superior del cubo que contiene un percentil.
+     *
+     * @param cuentas Las cuentas de cada cubo.
+     * @param cuenta  La suma de las cuentas.
+     * @param fraccion El percentil, entre 0 y 1.
+     * @return La cota superior del cubo, o 0 si no hay valores.
+     */
+    private static long percentil(long[] cuentas, long cuenta, double fraccion) {
+        long objetivo = (long) Math.ceil(cuenta * fraccion);
+        long acumulado = 0;
+        for (int i = 0; i < CUBOS; i++) {
+            acumulado += cuentas[i];
+            if (acumulado >= objetivo && acumulado > 0) {
+                return i == 0 ? 0 : i >= CUBOS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,249 @@
+package com.traductor.metricas;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de la traducción y de la exportación a PDF, compartidas por
+ * toda la JVM.
+ *
+ * <p>Los contadores son {@link LongAdder} e {@link HistogramaLog2}, así que
+ * registrar no bloquea ni reserva memoria; se registra una vez por llamada
+ * y nunca por carácter. Leer el reloj cuesta más que el resto del registro,
+ * así que la latencia de los textos cortos se mide en una de cada
+ * {@value #MUESTREO_LATENCIA} llamadas al azar y cada muestra cuenta
+ * {@value #MUESTREO_LATENCIA} veces en el histograma, para que los
+ * percentiles sigan siendo por llamada; los textos de
+ * {@value #UMBRAL_MEDICION} caracteres o más se miden siempre. Los
+ * contadores de llamadas y caracteres son exactos. Con las métricas
+ * deshabilitadas el costo es la lectura de un campo volátil. Se habilitan
+ * por defecto; la propiedad del sistema {@code traductor.metricas=false}
+ * las deshabilita al iniciar y {@code traductor.metricas.jfr=true} emite
+ * además eventos JFR. Ambas opciones se pueden cambiar en caliente por
+ * JMX.</p>
+ *
+ * @see MetricasMXBean
+ */
+public final class Metricas implements MetricasMXBean {
+    /**
+     * Nombre con que se publica el MBean.
+     */
+    public static final String NOMBRE_MBEAN = "com.traductor:type=Metricas";
+
+    // Latencia de los textos cortos: una llamada de cada MUESTREO_LATENCIA (potencia de dos)
+    private static final int MUESTREO_LATENCIA = 16;
+    private static final int UMBRAL_MEDICION = 1024;
+
+    // Valores especiales de iniciar(), fuera del rango práctico de System.nanoTime()
+    private static final long DESHABILITADO = Long.MIN_VALUE;
+    private static final long SIN_MEDIR = Long.MIN_VALUE + 1;
+
+    private static final Metricas INSTANCIA = new Metricas();
+
+    private volatile boolean habilitadas = !"false".equals(System.getProperty("traductor.metricas"));
+    private volatile boolean eventosJFR = Boolean.getBoolean("traductor.metricas.jfr");
+    private volatile long inicio = System.nanoTime();
+
+    // El número de traducciones y de caracteres son la cuenta y la suma del
+    // histograma de tamaños, para no pagar dos contadores más por llamada
+    private final HistogramaLog2 latenciaTraduccion = new HistogramaLog2();
+    private final HistogramaLog2 tamanoEntrada = new HistogramaLog2();
+    private final LongAdder caracteresSinTraducir = new LongAdder();
+
+    private final HistogramaLog2[] fasesPDF = new HistogramaLog2[FasePDF.values().length];
+
+    private Metricas() {
+        for (int i = 0; i < fasesPDF.length; i++) {
+            fasesPDF[i] = new HistogramaLog2();
+        }
+    }
+
+    /**
+     * @return Las métricas de la JVM.
+     */
+    public static Metricas obtener() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Publica las métricas en el servidor de MBeans de la plataforma.
+     * Llamarlo más de una vez no tiene efecto.
+     */
+    public static void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            servidor.registerMBean(INSTANCIA, new ObjectName(NOMBRE_MBEAN));
+        } catch (InstanceAlreadyExistsException e) {
+            // Ya publicado
+        } catch (JMException e) {
+            System.err.println("No se pudieron publicar las métricas por JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marca el inicio de una traducción. El bit más bajo del valor devuelto
+     * indica si la medida es una muestra, a costa de un nanosegundo de
+     * precisión.
+     *
+     * @param caracteres Caracteres de entrada, o -1 si no se conocen (se mide siempre).
+     * @return El valor a pasar a {@link #registrarTraduccion(long, long, long)}.
+     */
+    public static long iniciar(long caracteres) {
+        Metricas metricas = INSTANCIA;
+        if (!metricas.habilitadas) {
+            return DESHABILITADO;
+        }
+        if (metricas.eventosJFR || caracteres < 0 || caracteres >= UMBRAL_MEDICION) {
+            return System.nanoTime() & ~1L;
+        }
+        if ((ThreadLocalRandom.current().nextInt() & (MUESTREO_LATENCIA - 1)) == 0) {
+            return System.nanoTime() | 1L;
+        }
+        return SIN_MEDIR;
+    }
+
+    /**
+     * Registra una traducción terminada.
+     *
+     * @param inicio      Valor devuelto por {@link #iniciar(long)} al empezar.
+     * @param caracteres  Caracteres de entrada.
+     * @param sinTraducir Caracteres sin celda copiados tal cual.
+     */
+    public static void registrarTraduccion(long inicio, long caracteres, long sinTraducir) {
+        if (inicio == DESHABILITADO) {
+            return;
+        }
+        Metricas metricas = INSTANCIA;
+        metricas.tamanoEntrada.registrar(caracteres);
+        if (sinTraducir != 0) {
+            metricas.caracteresSinTraducir.add(sinTraducir);
+        }
+        if (inicio == SIN_MEDIR) {
+            return;
+        }
+
+        long nanos = System.nanoTime() - inicio;
+        metricas.latenciaTraduccion.registrar(nanos, (inicio & 1L) != 0 ? MUESTREO_LATENCIA : 1);
+
+        if (metricas.eventosJFR) {
+            EventoTraduccion evento = new EventoTraduccion();
+            if (evento.shouldCommit()) {
+                evento.caracteres = caracteres;
+                evento.sinTraducir = sinTraducir;
+                evento.nanos = nanos;
+                evento.commit();
+            }
+        }
+    }
+
+    /**
+     * Registra la duración de una fase de la generación de un PDF.
+     *
+     * @param fase  La fase medida.
+     * @param nanos Su duración en nanosegundos.
+     */
+    public static void registrarFasePDF(FasePDF fase, long nanos) {
+        Metricas metricas = INSTANCIA;
+        if (!metricas.habilitadas) {
+            return;
+        }
+        metricas.fasesPDF[fase.ordinal()].registrar(nanos);
+
+        if (metricas.eventosJFR) {
+            EventoFasePDF evento = new EventoFasePDF();
+            if (evento.shouldCommit()) {
+                evento.fase = fase.name();
+                evento.nanos = nanos;
+                evento.commit();
+            }
+        }
+    }
+
+    @Override
+    public boolean isHabilitadas() {
+        return habilitadas;
+    }
+
+    @Override
+    public void setHabilitadas(boolean habilitadas) {
+        this.habilitadas = habilitadas;
+    }
+
+    @Override
+    public boolean isEventosJFR() {
+        return eventosJFR;
+    }
+
+    @Override
+    public void setEventosJFR(boolean eventosJFR) {
+        this.eventosJFR = eventosJFR;
+    }
+
+    @Override
+    public long getTraducciones() {
+        return tamanoEntrada.cuenta();
+    }
+
+    @Override
+    public long getCaracteresTraducidos() {
+        return tamanoEntrada.suma();
+    }
+
+    @Override
+    public long getCaracteresSinTraducir() {
+        return caracteresSinTraducir.sum();
+    }
+
+    @Override
+    public double getCaracteresPorSegundo() {
+        double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 1e-9);
+        return tamanoEntrada.suma() / segundos;
+    }
+
+    @Override
+    public ResumenHistograma getLatenciaTraduccion() {
+        return latenciaTraduccion.resumen();
+    }
+
+    @Override
+    public ResumenHistograma getTamanoEntrada() {
+        return tamanoEntrada.resumen();
+    }
+
+    @Override
+    public long getPdfGenerados() {
+        // Cada PDF completo registra una sola vez la fase de escritura
+        return fasesPDF[FasePDF.ESCRITURA.ordinal()].cuenta();
+    }
+
+    @Override
+    public ResumenHistograma getPdfFuentes() {
+        return fasesPDF[FasePDF.FUENTES.ordinal()].resumen();
+    }
+
+    @Override
+    public ResumenHistograma getPdfComposicion() {
+        return fasesPDF[FasePDF.COMPOSICION.ordinal()].resumen();
+    }
+
+    @Override
+    public ResumenHistograma getPdfEscritura() {
+        return fasesPDF[FasePDF.ESCRITURA.ordinal()].resumen();
+    }
+
+    @Override
+    public void reiniciar() {
+        caracteresSinTraducir.reset();
+        latenciaTraduccion.reiniciar();
+        tamanoEntrada.reiniciar();
+        for (HistogramaLog2 fase : fasesPDF) {
+            fase.reiniciar();
+        }
+        inicio = System.nanoTime();
+    }
+}
@@ -0,0 +1,87 @@
+package com.traductor.metricas;
+
+/**
+ * Interfaz de gestión de las métricas, publicada en el servidor de MBeans
+ * de la plataforma como {@value Metricas#NOMBRE_MBEAN}.
+ *
+ * @see Metricas
+ */
+public interface MetricasMXBean {
+
+    /**
+     * @return true si se están registrando métricas.
+     */
+    boolean isHabilitadas();
+
+    /**
+     * @param habilitadas true para registrar métricas.
+     */
+    void setHabilitadas(boolean habilitadas);
+
+    /**
+     * @return true si además se emiten eventos JFR.
+     */
+    boolean isEventosJFR();
+
+    /**
+     * @param eventosJFR true para emitir eventos JFR (solo se graban si hay una grabación activa).
+     */
+    void setEventosJFR(boolean eventosJFR);
+
+    /**
+     * @return Número de llamadas a la traducción.
+     */
+    long getTraducciones();
+
+    /**
+     * @return Caracteres de entrada traducidos.
+     */
+    long getCaracteresTraducidos();
+
+    /**
+     * @return Caracteres sin celda copiados tal cual a la salida.
+     */
+    long getCaracteresSinTraducir();
+
+    /**
+     * @return Caracteres traducidos por segundo desde el último reinicio.
+     */
+    double getCaracteresPorSegundo();
+
+    /**
+     * @return Duración de las traducciones, en nanosegundos. En los textos
+     *         cortos se mide una muestra y se cuenta por todas las llamadas que
+     *         representa, así que la cuenta y la suma son estimaciones.
+     */
+    ResumenHistograma getLatenciaTraduccion();
+
+    /**
+     * @return Tamaño de la entrada de cada traducción, en caracteres.
+     */
+    ResumenHistograma getTamanoEntrada();
+
+    /**
+     * @return Número de PDF generados.
+     */
+    long getPdfGenerados();
+
+    /**
+     * @return Duración de la obtención de fuentes de cada PDF, en nanosegundos.
+     */
+    ResumenHistograma getPdfFuentes();
+
+    /**
+     * @return Duración de la composición de cada PDF, en nanosegundos.
+     */
+    ResumenHistograma getPdfComposicion();
+
+    /**
+     * @return Duración del cierre y la escritura de cada PDF, en nanosegundos.
+     */
+    ResumenHistograma getPdfEscritura();
+
+    /**
+     * Pone a cero todos los contadores e histogramas.
+     */
+    void reiniciar();
+}
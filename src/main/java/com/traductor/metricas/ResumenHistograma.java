@@ -0,0 +1,93 @@
+package com.traductor.metricas;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Resumen de un {@link HistogramaLog2} en un momento dado. Se publica por
+ * JMX como un dato compuesto.
+ */
+public final class ResumenHistograma {
+    private final long cuenta;
+    private final long suma;
+    private final double media;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long maximo;
+
+    /**
+     * Inicializa el resumen.
+     *
+     * @param cuenta Número de valores registrados.
+     * @param suma   Suma de los valores.
+     * @param media  Media de los valores.
+     * @param p50    Cota superior del percentil 50.
+     * @param p90    Cota superior del percentil 90.
+     * @param p99    Cota superior del percentil 99.
+     * @param maximo Valor máximo registrado.
+     */
+    @ConstructorParameters({"cuenta", "suma", "media", "p50", "p90", "p99", "maximo"})
+    public ResumenHistograma(long cuenta, long suma, double media, long p50, long p90, long p99, long maximo) {
+        this.cuenta = cuenta;
+        this.suma = suma;
+        this.media = media;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.maximo = maximo;
+    }
+
+    /**
+     * @return Número de valores registrados.
+     */
+    public long getCuenta() {
+        return cuenta;
+    }
+
+    /**
+     * @return Suma de los valores.
+     */
+    public long getSuma() {
+        return suma;
+    }
+
+    /**
+     * @return Media de los valores.
+     */
+    public double getMedia() {
+        return media;
+    }
+
+    /**
+     * @return Cota superior del percentil 50.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * @return Cota superior del percentil 90.
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * @return Cota superior del percentil 99.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * @return Valor máximo registrado.
+     */
+    public long getMaximo() {
+        return maximo;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d media=%.1f p50<=%d p90<=%d p99<=%d max=%d", cuenta, media, p50, p90, p99, maximo);
+    }
+}
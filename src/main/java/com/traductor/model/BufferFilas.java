@@ -0,0 +1,120 @@
+package com.traductor.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Texto dividido en filas y guardado en trozos de tamaño fijo en lugar de
+ * en una sola cadena, para documentos de muchos megabytes: agregar una fila
+ * nunca copia el texto ya guardado y leer una fila solo copia sus
+ * caracteres.
+ *
+ * <p>No es seguro para uso concurrente mientras se agregan filas; una vez
+ * lleno se puede leer desde cualquier hilo.</p>
+ *
+ * @see DocumentoTraducido
+ */
+final class BufferFilas {
+    // Caracteres por trozo (128 KB)
+    private static final int BITS_TROZO = 16;
+    private static final int TAMANO_TROZO = 1 << BITS_TROZO;
+    private static final int MASCARA_TROZO = TAMANO_TROZO - 1;
+
+    private final List<char[]> trozos = new ArrayList<>();
+    private long longitud;
+
+    // inicios[i] es la posición de la fila i; inicios[numeroFilas] es la longitud
+    private long[] inicios = new long[1024];
+    private int numeroFilas;
+
+    /**
+     * Agrega una fila al final del texto.
+     *
+     * @param fila Los caracteres de la fila.
+     */
+    void agregarFila(String fila) {
+        int copiados = 0;
+        while (copiados < fila.length()) {
+            int posicion = (int) (longitud & MASCARA_TROZO);
+            if (posicion == 0) {
+                trozos.add(new char[TAMANO_TROZO]);
+            }
+            int largo = Math.min(fila.length() - copiados, TAMANO_TROZO - posicion);
+            fila.getChars(copiados, copiados + largo, trozos.get(trozos.size() - 1), posicion);
+            copiados += largo;
+            longitud += largo;
+        }
+        numeroFilas++;
+        if (numeroFilas == inicios.length) {
+            inicios = Arrays.copyOf(inicios, inicios.length * 2);
+        }
+        inicios[numeroFilas] = longitud;
+    }
+
+    /**
+     * @return Número de filas.
+     */
+    int getNumeroFilas() {
+        return numeroFilas;
+    }
+
+    /**
+     * @return Número total de caracteres de todas las filas.
+     */
+    long getLongitud() {
+        return longitud;
+    }
+
+    /**
+     * Obtiene el texto de una fila.
+     *
+     * @param fila El índice de la fila.
+     * @return Los caracteres de la fila.
+     */
+    String getFila(int fila) {
+        long inicio = inicioFila(fila);
+        int largo = (int) (inicios[fila + 1] - inicio);
+        if (largo == 0) {
+            // Una fila vacía al final del texto puede empezar en un trozo que aún no existe
+            return "";
+        }
+        int posicion = (int) (inicio & MASCARA_TROZO);
+        if (posicion + largo <= TAMANO_TROZO) {
+            return new String(trozos.get((int) (inicio >>> BITS_TROZO)), posicion, largo);
+        }
+        StringBuilder resultado = new StringBuilder(largo);
+        agregarFilaA(fila, resultado);
+        return resultado.toString();
+    }
+
+    /**
+     * Agrega el texto de una fila a un destino.
+     *
+     * @param fila    El índice de la fila.
+     * @param destino Donde se agregan los caracteres.
+     */
+    void agregarFilaA(int fila, StringBuilder destino) {
+        long posicion = inicioFila(fila);
+        long fin = inicios[fila + 1];
+        while (posicion < fin) {
+            int desde = (int) (posicion & MASCARA_TROZO);
+            int largo = (int) Math.min(fin - posicion, TAMANO_TROZO - desde);
+            destino.append(trozos.get((int) (posicion >>> BITS_TROZO)), desde, largo);
+            posicion += largo;
+        }
+    }
+
+    /**
+     * Obtiene la posición de la primera letra de una fila.
+     *
+     * @param fila El índice de la fila.
+     * @return La posición en el texto completo.
+     */
+    private long inicioFila(int fila) {
+        if (fila < 0 || fila >= numeroFilas) {
+            throw new IndexOutOfBoundsException("Fila fuera de rango: " + fila);
+        }
+        return inicios[fila];
+    }
+}
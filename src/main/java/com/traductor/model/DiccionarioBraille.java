@@ -6,18 +6,59 @@ import java.util.Map;
 /**
  * Diccionario de traducción a Braille.
  *
+ * <p>Es inmutable: todas las tablas se construyen una sola vez, la primera
+ * vez que se pide la instancia compartida con {@link #obtenerInstancia()},
+ * y la inicialización de la clase la publica de forma segura. Se puede
+ * consultar desde cualquier número de hilos sin sincronización.</p>
+ *
  * @see SimboloBraille
  * @see TraductorBraille
  */
-public class DiccionarioBraille {
-    private Map<String, String> mapaBraille;
+public final class DiccionarioBraille {
+    /**
+     * Valor devuelto por {@link #obtenerCelda(char)} cuando el carácter no tiene celda.
+     */
+    public static final char SIN_CELDA = '\0';
+    
+    // Todas las claves del diccionario están en ASCII/Latin-1
+    private static final int TAMANO_TABLA = 256;
+    
+    // Celdas de 6 puntos: U+2800 a U+283F
+    private static final int CELDAS = 64;
+    
+    private final Map<String, String> mapaBraille;
+    private final char[] tablaCeldas;
+    private final String[] tablaInversa;
+    private final char celdaPrefijoNumero;
+    private final char celdaPrefijoMayuscula;
     
     /**
      * Inicializa el diccionario con el alfabeto Braille.
      */
-    public DiccionarioBraille() {
-        this.mapaBraille = new HashMap<>();
-        inicializarDiccionario();
+    private DiccionarioBraille() {
+        Map<String, String> mapa = new HashMap<>();
+        inicializarDiccionario(mapa);
+        this.mapaBraille = Map.copyOf(mapa);
+        this.tablaCeldas = compilarTablaCeldas();
+        this.tablaInversa = compilarTablaInversa();
+        this.celdaPrefijoNumero = SimboloBraille.desdeCodigo(obtenerPrefijoNumero()).obtenerCaracterUnicode();
+        this.celdaPrefijoMayuscula = SimboloBraille.desdeCodigo(obtenerPrefijoMayuscula()).obtenerCaracterUnicode();
+    }
+    
+    /**
+     * Obtiene el diccionario compartido, que se construye la primera vez
+     * que se pide.
+     *
+     * @return La única instancia del diccionario.
+     */
+    public static DiccionarioBraille obtenerInstancia() {
+        return Instancia.DICCIONARIO;
+    }
+    
+    // La JVM inicializa esta clase una sola vez, en el primer acceso, y
+    // garantiza que todos los hilos vean el diccionario ya construido
+    private static final class Instancia {
+        static final DiccionarioBraille DICCIONARIO = new DiccionarioBraille();
     }
     
     /**
@@ -31,6 +72,34 @@ public class DiccionarioBraille {
         return mapaBraille.getOrDefault(letraStr, null);
     }
     
+    /**
+     * Obtiene la celda Braille Unicode ya compilada para un carácter.
+     * Equivale a {@link #obtenerPatron(char)} convertido a U+28xx, sin crear objetos.
+     *
+     * @param letra El carácter a buscar.
+     * @return La celda Braille Unicode o {@link #SIN_CELDA} si no existe.
+     */
+    public char obtenerCelda(char letra) {
+        if (letra < TAMANO_TABLA) {
+            return tablaCeldas[letra];
+        }
+        char minuscula = Character.toLowerCase(letra);
+        return minuscula < TAMANO_TABLA ? tablaCeldas[minuscula] : SIN_CELDA;
+    }
+    
+    /**
+     * Obtiene todos los caracteres del diccionario que se traducen a una celda.
+     * Es la tabla inversa de {@link #obtenerCelda(char)}: solo contiene las
+     * claves del diccionario (letras en minúscula, dígitos y signos).
+     *
+     * @param celda La celda Braille Unicode (U+2800 a U+283F).
+     * @return Los caracteres en orden ascendente, o una cadena vacía si ninguno usa la celda.
+     */
+    public String obtenerCaracteres(char celda) {
+        int indice = celda - 0x2800;
+        return indice >= 0 && indice < CELDAS ? tablaInversa[indice] : "";
+    }
+    
     /**
      * Verifica si un carácter es un dígito.
      *
@@ -59,10 +128,68 @@ public class DiccionarioBraille {
         return "46";
     }
     
+    /**
+     * Obtiene la celda Unicode del prefijo de número (3456).
+     *
+     * @return La celda del prefijo de número.
+     */
+    public char obtenerCeldaPrefijoNumero() {
+        return celdaPrefijoNumero;
+    }
+    
+    /**
+     * Obtiene la celda Unicode del prefijo de mayúscula (46).
+     *
+     * @return La celda del prefijo de mayúscula.
+     */
+    public char obtenerCeldaPrefijoMayuscula() {
+        return celdaPrefijoMayuscula;
+    }
+    
+    /**
+     * Compila el mapa en una tabla densa indexada por carácter, con las
+     * mayúsculas ya resueltas a la celda de su minúscula.
+     *
+     * @return La tabla de celdas.
+     */
+    private char[] compilarTablaCeldas() {
+        char[] celdas = new char[TAMANO_TABLA];
+        for (int c = 0; c < TAMANO_TABLA; c++) {
+            String patron = obtenerPatron((char) c);
+            celdas[c] = patron != null ? SimboloBraille.desdeCodigo(patron).obtenerCaracterUnicode() : SIN_CELDA;
+        }
+        return celdas;
+    }
+    
+    /**
+     * Compila la tabla inversa a partir de la tabla de celdas.
+     *
+     * @return Los caracteres de cada celda, indexados por celda.
+     */
+    private String[] compilarTablaInversa() {
+        StringBuilder[] caracteres = new StringBuilder[CELDAS];
+        for (int c = 0; c < TAMANO_TABLA; c++) {
+            if (mapaBraille.containsKey(String.valueOf((char) c))) {
+                int indice = tablaCeldas[c] - 0x2800;
+                if (caracteres[indice] == null) {
+                    caracteres[indice] = new StringBuilder();
+                }
+                caracteres[indice].append((char) c);
+            }
+        }
+        String[] inversa = new String[CELDAS];
+        for (int i = 0; i < CELDAS; i++) {
+            inversa[i] = caracteres[i] != null ? caracteres[i].toString() : "";
+        }
+        return inversa;
+    }
+    
     /**
      * Inicializa el diccionario con las correspondencias letra-Braille.
+     *
+     * @param mapaBraille El mapa a llenar.
      */
-    private void inicializarDiccionario() {
+    private static void inicializarDiccionario(Map<String, String> mapaBraille) {
         // Letras minúsculas
         mapaBraille.put("a", "1");
         mapaBraille.put("b", "12");
@@ -0,0 +1,239 @@
+package com.traductor.model;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Documento traducido a Braille y dividido en filas alineadas: la fila i
+ * del Braille es la traducción de la fila i del texto original, así que se
+ * pueden mostrar lado a lado y leer solo las filas visibles.
+ *
+ * <p>Cada línea del texto se corta en filas de como mucho
+ * {@code anchoFila} caracteres, justo después de un espacio, y cada fila se
+ * traduce por separado para mostrarla. El estado de la traducción se
+ * reinicia en los espacios y los saltos de línea, así que casi siempre la
+ * fila traducida coincide con su parte de la traducción del texto entero.
+ * La excepción son las palabras más largas que una fila (códigos, enlaces,
+ * números largos), que se cortan por la mitad: el modo número y las
+ * mayúsculas vuelven a empezar en el corte y la fila siguiente puede llevar
+ * un prefijo de más. Por eso las filas solo sirven para mostrar, y
+ * {@link #traducir(Appendable)} traduce de nuevo el original completo.</p>
+ *
+ * <p>Los dos textos se guardan en trozos de tamaño fijo, nunca en una sola
+ * cadena. Una vez leído, el documento es inmutable y seguro para uso
+ * concurrente.</p>
+ *
+ * @see ITraductor
+ */
+public final class DocumentoTraducido {
+    // Tamaño de los fragmentos leídos del texto
+    private static final int TAMANO_FRAGMENTO = 8192;
+
+    private final ITraductor traductor;
+    private final BufferFilas original = new BufferFilas();
+    private final BufferFilas braille = new BufferFilas();
+    // Filas tras las que había un salto de línea
+    private final BitSet finesDeLinea = new BitSet();
+
+    private DocumentoTraducido(ITraductor traductor) {
+        this.traductor = traductor;
+    }
+
+    /**
+     * Lee y traduce un documento completo. Si el hilo se interrumpe, la
+     * lectura se abandona.
+     *
+     * @param entrada   El lector con el texto del documento.
+     * @param traductor El traductor a usar para cada fila y en {@link #traducir(Appendable)}.
+     * @param anchoFila Número máximo de caracteres del texto original por fila.
+     * @return El documento traducido.
+     * @throws IOException Si ocurre un error al leer, o
+     *                     {@link InterruptedIOException} si se interrumpe el hilo.
+     */
+    public static DocumentoTraducido leer(Reader entrada, ITraductor traductor, int anchoFila) throws IOException {
+        if (anchoFila < 2) {
+            throw new IllegalArgumentException("El ancho de fila debe ser al menos 2: " + anchoFila);
+        }
+        DocumentoTraducido documento = new DocumentoTraducido(traductor);
+        StringBuilder fila = new StringBuilder(anchoFila + 1);
+        char[] fragmento = new char[TAMANO_FRAGMENTO];
+
+        int leidos;
+        while ((leidos = entrada.read(fragmento)) != -1) {
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException("Lectura del documento interrumpida");
+            }
+            for (int i = 0; i < leidos; i++) {
+                char caracter = fragmento[i];
+                if (caracter == '\n') {
+                    // Los saltos de línea \r\n quedan como \n
+                    if (fila.length() > 0 && fila.charAt(fila.length() - 1) == '\r') {
+                        fila.setLength(fila.length() - 1);
+                    }
+                    documento.agregarFila(fila.toString(), true);
+                    fila.setLength(0);
+                } else {
+                    fila.append(caracter);
+                    if (fila.length() > anchoFila) {
+                        int corte = buscarCorte(fila, anchoFila);
+                        documento.agregarFila(fila.substring(0, corte), false);
+                        fila.delete(0, corte);
+                    }
+                }
+            }
+        }
+        if (fila.length() > 0) {
+            documento.agregarFila(fila.toString(), false);
+        }
+        return documento;
+    }
+
+    /**
+     * Busca dónde cortar una fila demasiado larga: después del último
+     * espacio o, si no hay ninguno, en el ancho máximo sin separar un
+     * carácter de sus marcas combinables ni un par sustituto.
+     *
+     * @param fila      La fila en curso.
+     * @param anchoFila Número máximo de caracteres por fila.
+     * @return El número de caracteres de la fila a emitir.
+     */
+    private static int buscarCorte(CharSequence fila, int anchoFila) {
+        for (int i = anchoFila - 1; i > 0; i--) {
+            if (fila.charAt(i) == ' ') {
+                return i + 1;
+            }
+        }
+        int corte = anchoFila;
+        while (corte > 1 && (NormalizadorNFC.esMarca(fila.charAt(corte))
+                || Character.isLowSurrogate(fila.charAt(corte)))) {
+            corte--;
+        }
+        return corte;
+    }
+
+    /**
+     * Traduce una fila y la agrega al documento.
+     *
+     * @param fila       El texto de la fila.
+     * @param finDeLinea Si la fila termina en un salto de línea.
+     */
+    private void agregarFila(String fila, boolean finDeLinea) {
+        if (finDeLinea) {
+            finesDeLinea.set(original.getNumeroFilas());
+        }
+        original.agregarFila(fila);
+        braille.agregarFila(traductor.traducir(fila));
+    }
+
+    /**
+     * @return Número de filas del documento.
+     */
+    public int getNumeroFilas() {
+        return original.getNumeroFilas();
+    }
+
+    /**
+     * @return Número de caracteres del texto original, sin los saltos de línea.
+     */
+    public long getLongitudOriginal() {
+        return original.getLongitud();
+    }
+
+    /**
+     * Obtiene una fila del texto original.
+     *
+     * @param fila El índice de la fila.
+     * @return El texto de la fila, sin el salto de línea.
+     */
+    public String getFilaOriginal(int fila) {
+        return original.getFila(fila);
+    }
+
+    /**
+     * Obtiene una fila de la traducción, traducida por separado para
+     * mostrarla.
+     *
+     * @param fila El índice de la fila.
+     * @return La traducción de la fila, sin el salto de línea.
+     */
+    public String getFilaBraille(int fila) {
+        return braille.getFila(fila);
+    }
+
+    /**
+     * Verifica si una fila termina en un salto de línea.
+     *
+     * @param fila El índice de la fila.
+     * @return true si tras la fila había un salto de línea.
+     */
+    public boolean esFinDeLinea(int fila) {
+        return finesDeLinea.get(fila);
+    }
+
+    /**
+     * Abre un lector con el texto original completo, fila a fila, sin
+     * reconstruirlo en una sola cadena.
+     *
+     * @return El lector, con los saltos de línea como \n.
+     */
+    public Reader abrirOriginal() {
+        return new LectorOriginal();
+    }
+
+    /**
+     * Traduce de nuevo el texto original completo por flujo con el mismo
+     * traductor, por ejemplo para exportarlo. A diferencia de unir las
+     * filas, el resultado es el de traducir el texto entero de una vez.
+     *
+     * @param salida El destino del texto traducido.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void traducir(Appendable salida) throws IOException {
+        try (Reader lector = abrirOriginal()) {
+            traductor.traducir(lector, salida);
+        }
+    }
+
+    /**
+     * Lector de las filas del original con sus saltos de línea.
+     */
+    private final class LectorOriginal extends Reader {
+        private int siguienteFila;
+        private String fila = "";
+        private int posicion;
+        private boolean saltoPendiente;
+
+        @Override
+        public int read(char[] destino, int desde, int largo) {
+            Objects.checkFromIndexSize(desde, largo, destino.length);
+            int copiados = 0;
+            while (copiados < largo) {
+                if (posicion < fila.length()) {
+                    int n = Math.min(largo - copiados, fila.length() - posicion);
+                    fila.getChars(posicion, posicion + n, destino, desde + copiados);
+                    posicion += n;
+                    copiados += n;
+                } else if (saltoPendiente) {
+                    destino[desde + copiados++] = '\n';
+                    saltoPendiente = false;
+                } else if (siguienteFila < getNumeroFilas()) {
+                    fila = getFilaOriginal(siguienteFila);
+                    saltoPendiente = esFinDeLinea(siguienteFila);
+                    siguienteFila++;
+                    posicion = 0;
+                } else {
+                    break;
+                }
+            }
+            return copiados == 0 && largo > 0 ? -1 : copiados;
+        }
+
+        @Override
+        public void close() {
+            // No hay nada que liberar: las filas son del documento
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.traductor.model;
+
+import java.util.Arrays;
+
+/**
+ * Reglas de la traducción a Braille aplicadas carácter a carácter, con el
+ * estado que necesitan entre un carácter y el siguiente: el modo número y
+ * las mayúsculas iniciales de la palabra en curso, que solo se pueden
+ * clasificar al terminarla. El resultado es idéntico al de
+ * {@link TraductorBraille#traducir(String)}.
+ *
+ * <p>Las subclases deciden dónde se escriben las celdas:
+ * {@link TraduccionContinua} en un {@link StringBuilder} y
+ * {@link TranscodificadorUTF8} directamente en bytes UTF-8.
+ * {@link TraductorReglas} reemplaza además las celdas y los prefijos del
+ * diccionario por los de su tabla. Los atajos para
+ * los casos comunes (los tramos de minúsculas, por ejemplo) escriben las
+ * celdas por su cuenta y registran el carácter con
+ * {@link #registrarSinPrefijo(byte)}, sin tocar el estado directamente.</p>
+ *
+ * @see TraductorBraille
+ */
+abstract class EstadoTraduccion {
+    // Clases de los caracteres según cómo los trata la traducción
+    static final byte OTRO = 0;
+    static final byte MINUSCULA = 1;
+    static final byte MAYUSCULA = 2;
+    static final byte DIGITO = 3;
+    static final byte COMA_O_PUNTO = 4;
+    static final byte MAYUSCULA_NO_LETRA = 5;
+
+    final DiccionarioBraille diccionario;
+    private final char prefijoNumero;
+    private final char prefijoMayuscula;
+
+    boolean enModoNumero;
+    boolean enPalabra;
+    boolean palabraConMinuscula;
+    // Mayúsculas del inicio de la palabra en curso, aún sin clasificar
+    private char[] mayusculasPendientes = new char[16];
+    int numeroPendientes;
+
+    // Solo para las métricas
+    private long sinTraducir;
+
+    /**
+     * Inicializa el estado de la traducción.
+     *
+     * @param diccionario El diccionario a utilizar.
+     */
+    EstadoTraduccion(DiccionarioBraille diccionario) {
+        this.diccionario = diccionario;
+        this.prefijoNumero = diccionario.obtenerCeldaPrefijoNumero();
+        this.prefijoMayuscula = diccionario.obtenerCeldaPrefijoMayuscula();
+    }
+
+    /**
+     * Clasifica un carácter según cómo lo trata la traducción.
+     *
+     * @param c El carácter.
+     * @return Su clase.
+     */
+    static byte clasificar(char c) {
+        if (Character.isLetter(c)) {
+            return Character.isUpperCase(c) ? MAYUSCULA : MINUSCULA;
+        }
+        if (Character.isDigit(c)) {
+            return DIGITO;
+        }
+        if (c == ',' || c == '.') {
+            return COMA_O_PUNTO;
+        }
+        return Character.isUpperCase(c) ? MAYUSCULA_NO_LETRA : OTRO;
+    }
+
+    /**
+     * Traduce un carácter.
+     *
+     * @param c     El carácter.
+     * @param clase Su clase, la de {@link #clasificar(char)}.
+     */
+    final void procesar(char c, byte clase) {
+        if (clase == MINUSCULA || clase == MAYUSCULA) {
+            enModoNumero = false;
+            if (!enPalabra) {
+                enPalabra = true;
+                palabraConMinuscula = false;
+            }
+            if (clase == MAYUSCULA) {
+                if (palabraConMinuscula) {
+                    escribirPrefijoMayuscula();
+                    agregarCaracter(c, false);
+                } else {
+                    // Aún no se sabe si toda la palabra está en mayúsculas
+                    if (numeroPendientes == mayusculasPendientes.length) {
+                        mayusculasPendientes = Arrays.copyOf(mayusculasPendientes, numeroPendientes * 2);
+                    }
+                    mayusculasPendientes[numeroPendientes++] = c;
+                }
+            } else {
+                // La palabra ya no puede estar completa en mayúsculas
+                emitirMayusculasIndividuales();
+                palabraConMinuscula = true;
+                agregarCaracter(c, true);
+            }
+            return;
+        }
+
+        // Cualquier carácter que no es letra cierra la palabra en curso
+        boolean palabraPreviaMayuscula = enPalabra && !palabraConMinuscula && numeroPendientes >= 2;
+        cerrarPalabra();
+
+        switch (clase) {
+            case DIGITO:
+                if (!enModoNumero) {
+                    escribirPrefijoNumero();
+                    enModoNumero = true;
+                }
+                agregarCaracter(c, false);
+                break;
+            case COMA_O_PUNTO:
+                // Puntos y comas no salen del modo número
+                agregarCaracter(c, false);
+                break;
+            case MAYUSCULA_NO_LETRA:
+                // Mayúscula que no es letra: solo se omite el prefijo si
+                // sigue a una palabra completa en mayúsculas
+                enModoNumero = false;
+                if (!palabraPreviaMayuscula) {
+                    escribirPrefijoMayuscula();
+                }
+                agregarCaracter(c, false);
+                break;
+            default:
+                enModoNumero = false;
+                agregarCaracter(c, true);
+                break;
+        }
+    }
+
+    /**
+     * Registra un carácter cuya celda ya escribió el llamador: una minúscula
+     * o un signo con celda, que no llevan prefijo. Actualiza el estado igual
+     * que {@link #procesar(char, byte)}, pero solo se puede usar si no hay
+     * mayúsculas pendientes, porque estas se tendrían que escribir antes.
+     *
+     * @param clase La clase del carácter.
+     * @return false si el carácter tiene que pasar por
+     * {@link #procesar(char, byte)}: hay mayúsculas pendientes o es una
+     * mayúscula o un dígito.
+     */
+    final boolean registrarSinPrefijo(byte clase) {
+        if (numeroPendientes != 0 || clase == MAYUSCULA || clase == DIGITO || clase == MAYUSCULA_NO_LETRA) {
+            return false;
+        }
+        if (clase != COMA_O_PUNTO) {
+            enModoNumero = false;
+        }
+        // Una minúscula continúa o empieza una palabra que ya no puede estar
+        // en mayúsculas; un signo la cierra
+        enPalabra = clase == MINUSCULA;
+        palabraConMinuscula = true;
+        return true;
+    }
+
+    /**
+     * Cierra la palabra en curso emitiendo las mayúsculas pendientes.
+     */
+    final void cerrarPalabra() {
+        if (!enPalabra) {
+            return;
+        }
+        enPalabra = false;
+        if (numeroPendientes >= 2) {
+            // Palabra completa en mayúsculas: un solo prefijo al inicio
+            escribirPrefijoPalabraMayuscula();
+            for (int i = 0; i < numeroPendientes; i++) {
+                agregarCaracter(mayusculasPendientes[i], false);
+            }
+            numeroPendientes = 0;
+        } else {
+            emitirMayusculasIndividuales();
+        }
+    }
+
+    /**
+     * @return Caracteres sin celda copiados tal cual hasta ahora.
+     */
+    long getSinTraducir() {
+        return sinTraducir;
+    }
+
+    /**
+     * Obtiene la celda de un carácter. Las subclases pueden usar una tabla
+     * propia con el mismo contenido que el diccionario.
+     *
+     * @param c El carácter.
+     * @return Su celda, o {@link DiccionarioBraille#SIN_CELDA} si no tiene.
+     */
+    char obtenerCelda(char c) {
+        return diccionario.obtenerCelda(c);
+    }
+
+    /**
+     * Escribe una celda Braille (U+2800 a U+28FF).
+     *
+     * @param celda La celda.
+     */
+    abstract void escribirCelda(char celda);
+
+    /**
+     * Escribe tal cual un carácter sin celda.
+     *
+     * @param c El carácter.
+     */
+    abstract void escribirCaracter(char c);
+
+    /**
+     * Emite las mayúsculas pendientes con un prefijo por letra.
+     *
+     */
+    private void emitirMayusculasIndividuales() {
+        for (int i = 0; i < numeroPendientes; i++) {
+            escribirPrefijoMayuscula();
+            agregarCaracter(mayusculasPendientes[i], false);
+        }
+        numeroPendientes = 0;
+    }
+
+    /**
+     * Agrega la traducción de un carácter: su celda o, si no tiene, el
+     * propio carácter cuando se pide copiarlo. Cada carácter del texto pasa
+     * por aquí una sola vez y en orden, incluidas las mayúsculas retenidas.
+     *
+     * @param c      El carácter a traducir.
+     * @param copiar Si se copia tal cual cuando no tiene celda; las
+     *               mayúsculas y los dígitos sin celda no dejan nada.
+     */
+    void agregarCaracter(char c, boolean copiar) {
+        char celda = obtenerCelda(c);
+        if (celda != DiccionarioBraille.SIN_CELDA) {
+            escribirCelda(celda);
+        } else if (copiar) {
+            escribirCaracter(c);
+            sinTraducir++;
+        }
+    }
+
+    /**
+     * Escribe el prefijo de número delante del primer dígito de un número.
+     */
+    void escribirPrefijoNumero() {
+        escribirCelda(prefijoNumero);
+    }
+
+    /**
+     * Escribe el prefijo de mayúscula delante de una mayúscula suelta.
+     */
+    void escribirPrefijoMayuscula() {
+        escribirCelda(prefijoMayuscula);
+    }
+
+    /**
+     * Escribe el prefijo de una palabra completa en mayúsculas delante de
+     * su primera letra. En Braille español es el mismo que el de una
+     * mayúscula suelta.
+     */
+    void escribirPrefijoPalabraMayuscula() {
+        escribirCelda(prefijoMayuscula);
+    }
+}
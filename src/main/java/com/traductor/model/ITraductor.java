@@ -1,5 +1,8 @@
 package com.traductor.model;
 
+import java.io.IOException;
+import java.io.Reader;
+
 /**
  * Interfaz para definir el comportamiento de un traductor.
  *
@@ -13,4 +16,23 @@ public interface ITraductor {
      * @return El texto traducido.
      */
     String traducir(String entrada);
+
+    /**
+     * Traduce el contenido de un lector y escribe el resultado en un destino.
+     * La implementación por defecto carga todo el texto en memoria; las
+     * implementaciones pueden sobrescribirla para traducir por fragmentos.
+     *
+     * @param entrada El lector con el texto a traducir.
+     * @param salida  El destino del texto traducido.
+     * @throws IOException Si ocurre un error al leer o escribir.
+     */
+    default void traducir(Reader entrada, Appendable salida) throws IOException {
+        StringBuilder texto = new StringBuilder();
+        char[] buffer = new char[8192];
+        int leidos;
+        while ((leidos = entrada.read(buffer)) != -1) {
+            texto.append(buffer, 0, leidos);
+        }
+        salida.append(traducir(texto.toString()));
+    }
 }
@@ -0,0 +1,170 @@
+package com.traductor.model;
+
+import java.text.Normalizer;
+
+/**
+ * Compone en forma NFC los acentos escritos como marca combinable (por
+ * ejemplo 'a' + U+0301 en lugar de 'á'), habituales en el texto copiado de
+ * macOS o de un PDF. El diccionario solo tiene los caracteres precompuestos,
+ * así que sin componerlos la marca se copiaría sin traducir.
+ *
+ * <p>Solo se normalizan los tramos que contienen una marca: cada uno va
+ * desde el último carácter anterior a U+0300 que la precede hasta el
+ * siguiente. Ningún carácter por debajo de U+0300 se combina con el
+ * anterior, así que esos caracteres son cortes seguros y el resto del texto
+ * se copia sin pasar por {@link Normalizer}.</p>
+ *
+ * @see TraductorBraille
+ */
+final class NormalizadorNFC {
+    /**
+     * Primer carácter que puede cambiar al normalizar; los anteriores
+     * (ASCII, Latin-1 y Latin extendido) ya están en NFC.
+     */
+    static final char LIMITE = '\u0300';
+
+    // Distancia máxima entre dos marcas para normalizarlas en el mismo tramo:
+    // cada llamada a Normalizer tiene un coste fijo que domina en tramos cortos
+    private static final int SEPARACION_MAXIMA = 64;
+
+    private NormalizadorNFC() {
+    }
+
+    /**
+     * Verifica si un carácter es una marca combinable, que puede formar un
+     * carácter precompuesto con el anterior.
+     *
+     * @param c El carácter a verificar.
+     * @return true si es una marca combinable.
+     */
+    static boolean esMarca(char c) {
+        if (c < LIMITE) {
+            return false;
+        }
+        int tipo = Character.getType(c);
+        return tipo == Character.NON_SPACING_MARK || tipo == Character.COMBINING_SPACING_MARK
+                || tipo == Character.ENCLOSING_MARK;
+    }
+
+    /**
+     * Busca la primera marca combinable de un rango.
+     *
+     * @param texto  Los caracteres.
+     * @param inicio Posición inicial (incluida).
+     * @param fin    Posición final (excluida).
+     * @return La posición de la primera marca, o {@code fin} si no hay ninguna.
+     */
+    static int buscarMarca(char[] texto, int inicio, int fin) {
+        for (int i = inicio; i < fin; i++) {
+            if (texto[i] >= LIMITE && esMarca(texto[i])) {
+                return i;
+            }
+        }
+        return fin;
+    }
+
+    /**
+     * Busca el último corte seguro de un rango: el último carácter anterior
+     * a U+0300, delante del cual se puede partir el texto sin separar una
+     * letra de sus marcas.
+     *
+     * @param texto  Los caracteres.
+     * @param inicio Posición inicial (incluida).
+     * @param fin    Posición final (excluida).
+     * @return La posición del corte, o {@code inicio} si no hay ninguno.
+     */
+    static int buscarUltimoCorte(char[] texto, int inicio, int fin) {
+        for (int i = fin - 1; i > inicio; i--) {
+            if (texto[i] < LIMITE) {
+                return i;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Busca el fin del tramo a normalizar que contiene una marca: el
+     * siguiente corte seguro tras ella y tras las marcas que la siguen a
+     * poca distancia, que se normalizan juntas.
+     *
+     * @param texto El texto.
+     * @param marca Posición de una marca combinable.
+     * @param fin   Posición final del rango (excluida).
+     * @return La posición siguiente al tramo.
+     */
+    static int buscarFinTramo(CharSequence texto, int marca, int fin) {
+        int hasta = saltarNoSeguros(texto, marca + 1, fin);
+        int siguiente = hasta;
+        int limite = Math.min(fin, hasta + SEPARACION_MAXIMA);
+        while (siguiente < limite) {
+            if (esMarca(texto.charAt(siguiente))) {
+                hasta = saltarNoSeguros(texto, siguiente + 1, fin);
+                siguiente = hasta;
+                limite = Math.min(fin, hasta + SEPARACION_MAXIMA);
+            } else {
+                siguiente++;
+            }
+        }
+        return hasta;
+    }
+
+    /**
+     * Normaliza un rango en forma NFC componiendo solo los tramos que
+     * contienen marcas combinables.
+     *
+     * @param texto  El texto.
+     * @param inicio Posición inicial (incluida).
+     * @param fin    Posición final (excluida).
+     * @return El rango normalizado.
+     */
+    static String componer(CharSequence texto, int inicio, int fin) {
+        StringBuilder resultado = null;
+        int copiado = inicio;
+        int i = inicio;
+        while (i < fin) {
+            if (!esMarca(texto.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            // El tramo empieza en la letra base de la marca
+            int desde = i;
+            while (desde > copiado && texto.charAt(desde - 1) >= LIMITE) {
+                desde--;
+            }
+            if (desde > copiado) {
+                desde--;
+            }
+            int hasta = buscarFinTramo(texto, i, fin);
+
+            if (resultado == null) {
+                resultado = new StringBuilder(fin - inicio);
+            }
+            resultado.append(texto, copiado, desde);
+            resultado.append(Normalizer.normalize(texto.subSequence(desde, hasta), Normalizer.Form.NFC));
+            copiado = hasta;
+            i = hasta;
+        }
+
+        if (resultado == null) {
+            return texto.subSequence(inicio, fin).toString();
+        }
+        return resultado.append(texto, copiado, fin).toString();
+    }
+
+    /**
+     * Avanza hasta el siguiente corte seguro.
+     *
+     * @param texto  El texto.
+     * @param inicio Posición a partir de la cual buscar.
+     * @param fin    Posición final del rango (excluida).
+     * @return La posición del siguiente carácter anterior a U+0300, o {@code fin}.
+     */
+    private static int saltarNoSeguros(CharSequence texto, int inicio, int fin) {
+        int i = inicio;
+        while (i < fin && texto.charAt(i) >= LIMITE) {
+            i++;
+        }
+        return i;
+    }
+}
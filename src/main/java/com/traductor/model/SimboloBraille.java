@@ -3,62 +3,145 @@ package com.traductor.model;
 /**
  * Representa un símbolo en Braille.
  *
+ * <p>Los puntos se guardan en un solo byte (punto1=bit0 ... punto8=bit7),
+ * con el mismo orden que el bloque Unicode U+2800, así que la conversión a
+ * carácter y desde él es una suma. Solo hay 256 símbolos posibles y todos
+ * se crean al cargar la clase: las fábricas devuelven siempre la misma
+ * instancia para los mismos puntos, sin reservar memoria, y los símbolos se
+ * pueden comparar con {@code ==}. Los puntos 7 y 8 son los del Braille
+ * computacional de 8 puntos.</p>
+ *
  * @see DiccionarioBraille
  */
-public class SimboloBraille {
-    private boolean[] puntos;
-    
+public final class SimboloBraille {
+    /**
+     * Primer carácter del bloque Unicode Braille (celda sin puntos).
+     */
+    public static final char PRIMERA_CELDA = '\u2800';
+
     /**
-     * Inicializa el símbolo Braille con un código.
+     * Número de puntos de una celda de 8 puntos.
+     */
+    public static final int MAX_PUNTOS = 8;
+
+    private static final int SIMBOLOS = 1 << MAX_PUNTOS;
+    private static final SimboloBraille[] POOL = new SimboloBraille[SIMBOLOS];
+
+    static {
+        for (int i = 0; i < SIMBOLOS; i++) {
+            POOL[i] = new SimboloBraille((byte) i);
+        }
+    }
+
+    private final byte puntos;
+    private final String codigo;
+
+    private SimboloBraille(byte puntos) {
+        this.puntos = puntos;
+        StringBuilder code = new StringBuilder(MAX_PUNTOS);
+        for (int i = 0; i < MAX_PUNTOS; i++) {
+            if ((puntos & (1 << i)) != 0) {
+                code.append(i + 1);
+            }
+        }
+        this.codigo = code.toString();
+    }
+
+    /**
+     * Obtiene el símbolo con los puntos indicados.
+     *
+     * @param puntos Los puntos activos: punto1=bit0 ... punto8=bit7 (0 a 255).
+     * @return El símbolo compartido.
+     */
+    public static SimboloBraille obtener(int puntos) {
+        if (puntos < 0 || puntos >= SIMBOLOS) {
+            throw new IllegalArgumentException("Patrón de puntos fuera de rango: " + puntos);
+        }
+        return POOL[puntos];
+    }
+
+    /**
+     * Obtiene el símbolo a partir de su código, por ejemplo "12456".
+     * Los caracteres que no son un punto del 1 al 8 se ignoran, así que "0"
+     * es la celda vacía.
      *
      * @param brailleCode El código del símbolo en Braille.
+     * @return El símbolo compartido.
+     */
+    public static SimboloBraille desdeCodigo(String brailleCode) {
+        int valor = 0;
+        for (int i = 0; i < brailleCode.length(); i++) {
+            int pos = brailleCode.charAt(i) - '0';
+            if (pos >= 1 && pos <= MAX_PUNTOS) {
+                valor |= 1 << (pos - 1);
+            }
+        }
+        return POOL[valor];
+    }
+
+    /**
+     * Obtiene el símbolo de un carácter Unicode Braille (U+2800 a U+28FF).
+     *
+     * @param caracter El carácter Braille.
+     * @return El símbolo compartido, o null si el carácter no es Braille.
      */
-    public SimboloBraille(String brailleCode) {
-        this.puntos = new boolean[6];
-        convertirCodigo(brailleCode);
+    public static SimboloBraille desdeUnicode(char caracter) {
+        int valor = caracter - PRIMERA_CELDA;
+        return valor >= 0 && valor < SIMBOLOS ? POOL[valor] : null;
     }
-    
+
     /**
      * Obtiene el patrón de puntos del símbolo.
      *
      * @return Cadena con los números de los puntos activos.
      */
     public String obtenerCodigoPatron() {
-        StringBuilder code = new StringBuilder();
-        for (int i = 0; i < puntos.length; i++) {
-            if (puntos[i]) {
-                code.append(i + 1);
-            }
-        }
-        return code.toString();
+        return codigo;
     }
-    
+
+    /**
+     * Obtiene los puntos activos como máscara de bits.
+     *
+     * @return Los puntos activos: punto1=bit0 ... punto8=bit7.
+     */
+    public int obtenerPuntos() {
+        return puntos & 0xFF;
+    }
+
     /**
      * Verifica si un punto específico está activo.
      *
-     * @param punto El número del punto a verificar.
+     * @param punto El número del punto a verificar (1 a 8).
      * @return true si el punto está activo, false en caso contrario.
      */
     public boolean isPuntoActivado(int punto) {
-        if (punto >= 1 && punto <= 6) {
-            return puntos[punto - 1];
+        if (punto >= 1 && punto <= MAX_PUNTOS) {
+            return (puntos & (1 << (punto - 1))) != 0;
         }
         return false;
     }
-    
+
     /**
-     * Convierte un código de Braille en el patrón de puntos.
+     * Verifica si el símbolo cabe en una celda de 6 puntos.
      *
-     * @param brailleCode El código a convertir.
+     * @return true si no usa los puntos 7 ni 8.
      */
-    private void convertirCodigo(String brailleCode) {
-        for (char c : brailleCode.toCharArray()) {
-            if (Character.isDigit(c)) {
-                int pos = Character.getNumericValue(c);
-                if (pos >= 1 && pos <= 6) {
-                    puntos[pos - 1] = true;
-                }
-            }
-        }
+    public boolean esDeSeisPuntos() {
+        return (puntos & 0xC0) == 0;
+    }
+
+    /**
+     * Obtiene el carácter Unicode Braille (bloque U+2800) del símbolo.
+     * Cada punto se mapea a un bit: punto1=bit0, punto2=bit1, punto3=bit2, etc.
+     *
+     * @return El carácter Unicode Braille correspondiente.
+     */
+    public char obtenerCaracterUnicode() {
+        return (char) (PRIMERA_CELDA + (puntos & 0xFF));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(obtenerCaracterUnicode());
     }
 }
@@ -0,0 +1,565 @@
+package com.traductor.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabla de reglas de traducción a Braille cargada desde un archivo de texto
+ * con la sintaxis de liblouis ({@code código caracteres puntos}) y compilada
+ * en un árbol de prefijos (trie).
+ *
+ * <p>Cada regla asocia una secuencia de caracteres a una o más celdas. Las
+ * reglas de un carácter ({@code letter}, {@code digit}, {@code punctuation},
+ * {@code sign}, {@code math}, {@code space}...) y las de varios
+ * ({@code always}, {@code word}, {@code begword}, {@code endword}) comparten
+ * el árbol, de modo que buscar la regla más larga que empieza en una
+ * posición cuesta como mucho la longitud de la regla más larga, sin
+ * importar cuántas reglas haya. Las claves se guardan en minúscula; las
+ * mayúsculas se resuelven con los indicadores {@code capsletter} y
+ * {@code begcapsword}. También se admiten {@code numsign},
+ * {@code numericmodechars} e {@code include}.</p>
+ *
+ * <p>Los puntos de cada celda se escriben juntos ("1245", del 1 al 8) y las
+ * celdas se separan con '-'; "0" es la celda vacía. En los caracteres se
+ * admiten los escapes \s, \t, \n, \r, \\ y \xhhhh. Si una secuencia se
+ * define dos veces con el mismo código, la última definición reemplaza a
+ * la anterior.</p>
+ *
+ * <p>Una tabla es inmutable una vez cargada y se puede compartir entre hilos.</p>
+ *
+ * @see TraductorReglas
+ */
+public final class TablaReglas {
+    /**
+     * Recurso con la tabla por defecto, equivalente a {@link DiccionarioBraille}.
+     */
+    public static final String TABLA_POR_DEFECTO = "/com/traductor/tablas/es.ctb";
+
+    // Restricción de posición de cada regla dentro de la palabra
+    static final int SIEMPRE = 0;
+    static final int PALABRA = 1;
+    static final int INICIO_PALABRA = 2;
+    static final int FIN_PALABRA = 3;
+    private static final int TIPOS = 4;
+
+    // Los hijos de la raíz con carácter Latin-1 se buscan en una tabla directa
+    private static final int TAMANO_RAIZ = 256;
+    private static final int SIN_NODO = -1;
+
+    private final String nombre;
+    private final int numeroReglas;
+    private final int longitudMaxima;
+
+    // Árbol compilado: los hijos del nodo n son claves/hijos[primerHijo[n], primerHijo[n + 1]),
+    // ordenados por carácter
+    private final int[] raiz;
+    private final int[] primerHijo;
+    private final char[] claves;
+    private final int[] hijos;
+    private final int[] profundidad;
+    private final boolean[] terminal;
+    // Nodos con alguna regla que depende de los límites de la palabra
+    private final boolean[] posicional;
+    // Celdas de cada regla, indexadas por nodo * TIPOS + tipo (null si no hay)
+    private final String[] salidas;
+
+    private final BitSet digitos;
+    private final BitSet caracteresModoNumero;
+    private final String indicadorNumero;
+    private final String indicadorMayuscula;
+    private final String indicadorPalabraMayuscula;
+
+    /**
+     * Tabla por defecto, cargada la primera vez que se pide.
+     */
+    private static final class PorDefecto {
+        static final TablaReglas TABLA = cargarPorDefecto();
+    }
+
+    private TablaReglas(String nombre, Constructor constructor) {
+        this.nombre = nombre;
+        this.numeroReglas = constructor.numeroReglas;
+        this.digitos = constructor.digitos;
+        this.caracteresModoNumero = constructor.caracteresModoNumero;
+        this.indicadorNumero = constructor.indicadorNumero;
+        this.indicadorMayuscula = constructor.indicadorMayuscula;
+        this.indicadorPalabraMayuscula = constructor.indicadorPalabraMayuscula;
+
+        int nodos = constructor.hijos.size();
+        this.primerHijo = new int[nodos + 1];
+        this.profundidad = new int[nodos];
+        this.terminal = new boolean[nodos];
+        this.posicional = new boolean[nodos];
+        this.salidas = new String[nodos * TIPOS];
+        int aristas = 0;
+        for (Map<Character, Integer> hijosNodo : constructor.hijos) {
+            aristas += hijosNodo.size();
+        }
+        this.claves = new char[aristas];
+        this.hijos = new int[aristas];
+        this.raiz = new int[TAMANO_RAIZ];
+        Arrays.fill(raiz, SIN_NODO);
+
+        int posicion = 0;
+        for (int n = 0; n < nodos; n++) {
+            primerHijo[n] = posicion;
+            List<Character> ordenadas = new ArrayList<>(constructor.hijos.get(n).keySet());
+            ordenadas.sort(null);
+            for (char clave : ordenadas) {
+                int hijo = constructor.hijos.get(n).get(clave);
+                claves[posicion] = clave;
+                hijos[posicion] = hijo;
+                posicion++;
+                // Los nodos se numeran al crearse, así que el padre siempre va antes que el hijo
+                profundidad[hijo] = profundidad[n] + 1;
+                if (n == 0 && clave < TAMANO_RAIZ) {
+                    raiz[clave] = hijo;
+                }
+            }
+            String[] reglas = constructor.salidas.get(n);
+            for (int tipo = 0; tipo < TIPOS; tipo++) {
+                salidas[n * TIPOS + tipo] = reglas[tipo];
+                terminal[n] |= reglas[tipo] != null;
+                posicional[n] |= tipo != SIEMPRE && reglas[tipo] != null;
+            }
+        }
+        primerHijo[nodos] = posicion;
+        int maxima = 0;
+        for (int n = 0; n < nodos; n++) {
+            if (terminal[n]) {
+                maxima = Math.max(maxima, profundidad[n]);
+            }
+        }
+        this.longitudMaxima = maxima;
+    }
+
+    /**
+     * Obtiene la tabla por defecto, que reproduce {@link DiccionarioBraille}.
+     *
+     * @return La tabla por defecto, compartida.
+     */
+    public static TablaReglas porDefecto() {
+        return PorDefecto.TABLA;
+    }
+
+    /**
+     * Carga una tabla desde un archivo UTF-8. Las reglas {@code include} se
+     * resuelven respecto al directorio del archivo.
+     *
+     * @param archivo El archivo de la tabla.
+     * @return La tabla compilada.
+     * @throws IOException Si no se puede leer el archivo o tiene errores.
+     */
+    public static TablaReglas cargar(Path archivo) throws IOException {
+        Constructor constructor = new Constructor();
+        constructor.incluir(archivo);
+        return new TablaReglas(archivo.getFileName().toString(), constructor);
+    }
+
+    /**
+     * Carga una tabla desde un lector. No admite reglas {@code include}.
+     *
+     * @param lector El lector con el texto de la tabla.
+     * @param nombre El nombre de la tabla, usado en los mensajes de error.
+     * @return La tabla compilada.
+     * @throws IOException Si no se puede leer la tabla o tiene errores.
+     */
+    public static TablaReglas cargar(Reader lector, String nombre) throws IOException {
+        Constructor constructor = new Constructor();
+        constructor.leer(lector, nombre, null);
+        return new TablaReglas(nombre, constructor);
+    }
+
+    /**
+     * @return El nombre de la tabla.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return Número de reglas cargadas (las redefinidas cuentan una vez).
+     */
+    public int getNumeroReglas() {
+        return numeroReglas;
+    }
+
+    /**
+     * @return Longitud en caracteres de la regla más larga.
+     */
+    public int getLongitudMaxima() {
+        return longitudMaxima;
+    }
+
+    /**
+     * Busca la regla más larga que se puede aplicar en una posición.
+     * Los límites de palabra se evalúan dentro del rango [inicio, fin).
+     *
+     * @param texto    El texto a traducir.
+     * @param inicio   Inicio del rango traducido.
+     * @param fin      Fin del rango traducido.
+     * @param posicion Posición donde empieza la regla.
+     * @return El índice de la regla (ver {@link #getSalida(int)} y
+     * {@link #getLongitud(int)}), o -1 si ninguna se aplica.
+     */
+    int buscar(CharSequence texto, int inicio, int fin, int posicion) {
+        int nodo = 0;
+        int mejor = -1;
+        for (int j = posicion; j < fin; j++) {
+            nodo = hijo(nodo, Character.toLowerCase(texto.charAt(j)));
+            if (nodo == SIN_NODO) {
+                break;
+            }
+            int base = nodo * TIPOS;
+            if (!posicional[nodo]) {
+                if (salidas[base + SIEMPRE] != null) {
+                    mejor = base + SIEMPRE;
+                }
+                continue;
+            }
+            boolean inicioPalabra = posicion == inicio || !Character.isLetter(texto.charAt(posicion - 1));
+            boolean finPalabra = j + 1 == fin || !Character.isLetter(texto.charAt(j + 1));
+            if (inicioPalabra && finPalabra && salidas[base + PALABRA] != null) {
+                mejor = base + PALABRA;
+            } else if (inicioPalabra && salidas[base + INICIO_PALABRA] != null) {
+                mejor = base + INICIO_PALABRA;
+            } else if (finPalabra && salidas[base + FIN_PALABRA] != null) {
+                mejor = base + FIN_PALABRA;
+            } else if (salidas[base + SIEMPRE] != null) {
+                mejor = base + SIEMPRE;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * @param regla Índice devuelto por {@link #buscar(CharSequence, int, int, int)}.
+     * @return Las celdas de la regla.
+     */
+    String getSalida(int regla) {
+        return salidas[regla];
+    }
+
+    /**
+     * @param regla Índice devuelto por {@link #buscar(CharSequence, int, int, int)}.
+     * @return Número de caracteres que cubre la regla.
+     */
+    int getLongitud(int regla) {
+        return profundidad[regla / TIPOS];
+    }
+
+    /**
+     * Obtiene las celdas de un carácter suelto, sin reglas de varios caracteres.
+     *
+     * @param c El carácter.
+     * @return Las celdas, o null si el carácter no tiene regla.
+     */
+    String getCeldas(char c) {
+        int nodo = hijo(0, Character.toLowerCase(c));
+        return nodo == SIN_NODO ? null : salidas[nodo * TIPOS + SIEMPRE];
+    }
+
+    /**
+     * @param c El carácter.
+     * @return true si el carácter es un dígito de la tabla ({@code digit}).
+     */
+    boolean esDigito(char c) {
+        return digitos.get(c);
+    }
+
+    /**
+     * @param c El carácter.
+     * @return true si el carácter no termina el modo número ({@code numericmodechars}).
+     */
+    boolean mantieneModoNumero(char c) {
+        return caracteresModoNumero.get(c);
+    }
+
+    /**
+     * @return Celdas del indicador de número, o una cadena vacía.
+     */
+    String getIndicadorNumero() {
+        return indicadorNumero;
+    }
+
+    /**
+     * @return Celdas del indicador de letra mayúscula, o una cadena vacía.
+     */
+    String getIndicadorMayuscula() {
+        return indicadorMayuscula;
+    }
+
+    /**
+     * @return Celdas del indicador de palabra en mayúsculas, o una cadena vacía.
+     */
+    String getIndicadorPalabraMayuscula() {
+        return indicadorPalabraMayuscula;
+    }
+
+    /**
+     * Busca el hijo de un nodo para un carácter.
+     *
+     * @param nodo El nodo.
+     * @param c    El carácter (en minúscula).
+     * @return El nodo hijo, o {@link #SIN_NODO}.
+     */
+    private int hijo(int nodo, char c) {
+        if (nodo == 0 && c < TAMANO_RAIZ) {
+            return raiz[c];
+        }
+        int bajo = primerHijo[nodo];
+        int alto = primerHijo[nodo + 1] - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            char clave = claves[medio];
+            if (clave < c) {
+                bajo = medio + 1;
+            } else if (clave > c) {
+                alto = medio - 1;
+            } else {
+                return hijos[medio];
+            }
+        }
+        return SIN_NODO;
+    }
+
+    /**
+     * Carga la tabla por defecto desde los recursos.
+     *
+     * @return La tabla por defecto.
+     */
+    private static TablaReglas cargarPorDefecto() {
+        InputStream recurso = TablaReglas.class.getResourceAsStream(TABLA_POR_DEFECTO);
+        if (recurso == null) {
+            throw new IllegalStateException("No se encontró la tabla " + TABLA_POR_DEFECTO);
+        }
+        try (Reader lector = new InputStreamReader(recurso, StandardCharsets.UTF_8)) {
+            return cargar(lector, "es.ctb");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Acumula las reglas leídas en un árbol de nodos con mapas, que luego se
+     * compila en arreglos.
+     */
+    private static final class Constructor {
+        private final List<Map<Character, Integer>> hijos = new ArrayList<>();
+        private final List<String[]> salidas = new ArrayList<>();
+        private final BitSet digitos = new BitSet();
+        private final BitSet caracteresModoNumero = new BitSet();
+        private final List<Path> abiertos = new ArrayList<>();
+        private int numeroReglas;
+        private String indicadorNumero = "";
+        private String indicadorMayuscula = "";
+        private String indicadorPalabraMayuscula = "";
+
+        Constructor() {
+            nuevoNodo();
+        }
+
+        void incluir(Path archivo) throws IOException {
+            Path normalizado = archivo.toAbsolutePath().normalize();
+            if (abiertos.contains(normalizado)) {
+                throw new IOException(archivo + ": inclusión circular");
+            }
+            abiertos.add(normalizado);
+            try (BufferedReader lector = Files.newBufferedReader(normalizado, StandardCharsets.UTF_8)) {
+                leer(lector, archivo.getFileName().toString(), normalizado.getParent());
+            } finally {
+                abiertos.remove(abiertos.size() - 1);
+            }
+        }
+
+        void leer(Reader lector, String nombre, Path directorio) throws IOException {
+            BufferedReader lineas = lector instanceof BufferedReader
+                    ? (BufferedReader) lector : new BufferedReader(lector);
+            String linea;
+            int numero = 0;
+            while ((linea = lineas.readLine()) != null) {
+                numero++;
+                String[] campos = linea.trim().split("\\s+");
+                if (campos[0].isEmpty() || campos[0].startsWith("#")) {
+                    continue;
+                }
+                try {
+                    procesar(campos, directorio);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(nombre + ":" + numero + ": " + e.getMessage());
+                }
+            }
+        }
+
+        private void procesar(String[] campos, Path directorio) throws IOException {
+            String codigo = campos[0];
+            switch (codigo) {
+                case "include":
+                    if (directorio == null) {
+                        throw new IllegalArgumentException("include solo se admite en tablas cargadas desde un archivo");
+                    }
+                    incluir(directorio.resolve(argumento(campos, 1)));
+                    break;
+                case "numsign":
+                    indicadorNumero = celdas(argumento(campos, 1));
+                    break;
+                case "capsletter":
+                    indicadorMayuscula = celdas(argumento(campos, 1));
+                    break;
+                case "begcapsword":
+                    indicadorPalabraMayuscula = celdas(argumento(campos, 1));
+                    break;
+                case "numericmodechars":
+                    for (char c : caracteres(argumento(campos, 1)).toCharArray()) {
+                        caracteresModoNumero.set(c);
+                    }
+                    break;
+                case "digit":
+                    String digito = caracter(argumento(campos, 1));
+                    digitos.set(digito.charAt(0));
+                    agregar(digito, celdas(argumento(campos, 2)), SIEMPRE);
+                    break;
+                case "letter":
+                case "lowercase":
+                case "uppercase":
+                case "space":
+                case "punctuation":
+                case "sign":
+                case "math":
+                    agregar(caracter(argumento(campos, 1)), celdas(argumento(campos, 2)), SIEMPRE);
+                    break;
+                case "always":
+                    agregar(caracteres(argumento(campos, 1)), celdas(argumento(campos, 2)), SIEMPRE);
+                    break;
+                case "word":
+                    agregar(caracteres(argumento(campos, 1)), celdas(argumento(campos, 2)), PALABRA);
+                    break;
+                case "begword":
+                    agregar(caracteres(argumento(campos, 1)), celdas(argumento(campos, 2)), INICIO_PALABRA);
+                    break;
+                case "endword":
+                    agregar(caracteres(argumento(campos, 1)), celdas(argumento(campos, 2)), FIN_PALABRA);
+                    break;
+                default:
+                    throw new IllegalArgumentException("código desconocido: " + codigo);
+            }
+        }
+
+        private void agregar(String secuencia, String celdas, int tipo) {
+            int nodo = 0;
+            for (int i = 0; i < secuencia.length(); i++) {
+                char c = Character.toLowerCase(secuencia.charAt(i));
+                Integer hijo = hijos.get(nodo).get(c);
+                if (hijo == null) {
+                    hijo = nuevoNodo();
+                    hijos.get(nodo).put(c, hijo);
+                }
+                nodo = hijo;
+            }
+            String[] reglas = salidas.get(nodo);
+            if (reglas[tipo] == null) {
+                numeroReglas++;
+            }
+            reglas[tipo] = celdas;
+        }
+
+        private int nuevoNodo() {
+            hijos.add(new HashMap<>(4));
+            salidas.add(new String[TIPOS]);
+            return hijos.size() - 1;
+        }
+
+        private static String argumento(String[] campos, int indice) {
+            if (indice >= campos.length) {
+                throw new IllegalArgumentException("faltan argumentos para " + campos[0]);
+            }
+            return campos[indice];
+        }
+
+        private static String caracter(String campo) {
+            String texto = caracteres(campo);
+            if (texto.length() != 1) {
+                throw new IllegalArgumentException("se esperaba un solo carácter: " + campo);
+            }
+            return texto;
+        }
+
+        private static String caracteres(String campo) {
+            StringBuilder texto = new StringBuilder(campo.length());
+            for (int i = 0; i < campo.length(); i++) {
+                char c = campo.charAt(i);
+                if (c != '\\') {
+                    texto.append(c);
+                    continue;
+                }
+                if (++i == campo.length()) {
+                    throw new IllegalArgumentException("escape incompleto: " + campo);
+                }
+                switch (campo.charAt(i)) {
+                    case 's':
+                        texto.append(' ');
+                        break;
+                    case 't':
+                        texto.append('\t');
+                        break;
+                    case 'n':
+                        texto.append('\n');
+                        break;
+                    case 'r':
+                        texto.append('\r');
+                        break;
+                    case '\\':
+                        texto.append('\\');
+                        break;
+                    case 'x':
+                        if (i + 5 > campo.length()) {
+                            throw new IllegalArgumentException("escape \\x incompleto: " + campo);
+                        }
+                        try {
+                            texto.append((char) Integer.parseInt(campo.substring(i + 1, i + 5), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("escape \\x no válido: " + campo);
+                        }
+                        i += 4;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("escape desconocido: " + campo);
+                }
+            }
+            return texto.toString();
+        }
+
+        private static String celdas(String campo) {
+            StringBuilder resultado = new StringBuilder();
+            for (String celda : campo.split("-", -1)) {
+                if (celda.isEmpty()) {
+                    throw new IllegalArgumentException("celda vacía en " + campo);
+                }
+                int puntos = 0;
+                if (!celda.equals("0")) {
+                    for (char c : celda.toCharArray()) {
+                        if (c < '1' || c > '8') {
+                            throw new IllegalArgumentException("punto no válido '" + c + "' en " + campo);
+                        }
+                        puntos |= 1 << (c - '1');
+                    }
+                }
+                resultado.append(SimboloBraille.obtener(puntos).obtenerCaracterUnicode());
+            }
+            return resultado.toString();
+        }
+    }
+}
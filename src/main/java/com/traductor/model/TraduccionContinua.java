@@ -0,0 +1,121 @@
+package com.traductor.model;
+
+/**
+ * Estado de una traducción a Braille realizada por fragmentos.
+ * Conserva entre un fragmento y el siguiente el modo número y la palabra
+ * en mayúsculas que todavía no se puede clasificar, de modo que el
+ * resultado es idéntico al de {@link TraductorBraille#traducir(String)}.
+ * Las reglas son las de {@link EstadoTraduccion}; esta clase solo agrega
+ * las celdas a un {@link StringBuilder} y traduce de una vez los tramos
+ * simples que siguen a una minúscula.
+ *
+ * <p>Solo se retienen las letras mayúsculas iniciales de la palabra en
+ * curso; el resto del texto se emite en cuanto se procesa.</p>
+ *
+ * @see TraductorBraille
+ */
+class TraduccionContinua extends EstadoTraduccion {
+    private final TramoSimple tramoSimple = TramoSimple.obtener();
+    private char[] celdasTramo;
+    // Salida del fragmento en curso
+    private StringBuilder salida;
+
+    // Solo para las métricas
+    private long caracteres;
+
+    /**
+     * Inicializa el estado de la traducción.
+     *
+     * @param diccionario El diccionario a utilizar.
+     */
+    TraduccionContinua(DiccionarioBraille diccionario) {
+        super(diccionario);
+    }
+
+    /**
+     * Traduce un fragmento de texto y agrega el resultado a la salida.
+     *
+     * @param fragmento Los caracteres a traducir.
+     * @param desde     Posición inicial (incluida).
+     * @param hasta     Posición final (excluida).
+     * @param salida    Donde se agregan las celdas Braille.
+     */
+    void procesar(char[] fragmento, int desde, int hasta, StringBuilder salida) {
+        this.salida = salida;
+        caracteres += hasta - desde;
+        for (int i = desde; i < hasta; i++) {
+            char caracter = fragmento[i];
+            byte clase = clasificar(caracter);
+            // Caso común, sin mayúsculas pendientes: una minúscula o un signo
+            // con celda propia, que no llevan prefijo
+            char celda = diccionario.obtenerCelda(caracter);
+            if (celda != DiccionarioBraille.SIN_CELDA && registrarSinPrefijo(clase)) {
+                salida.append(celda);
+            } else {
+                procesar(caracter, clase);
+            }
+            if (TramoSimple.esInicio(caracter)) {
+                // Tras una minúscula no quedan mayúsculas pendientes
+                i = procesarTramoSimple(fragmento, i + 1, hasta) - 1;
+            }
+        }
+    }
+
+    /**
+     * Traduce el tramo simple que sigue a una minúscula (ver
+     * {@link TramoSimple}).
+     *
+     * @param fragmento Los caracteres a traducir.
+     * @param desde     Posición siguiente a la minúscula.
+     * @param hasta     Posición final (excluida).
+     * @return La posición siguiente al tramo.
+     */
+    private int procesarTramoSimple(char[] fragmento, int desde, int hasta) {
+        if (celdasTramo == null) {
+            celdasTramo = new char[TramoSimple.TAMANO_BLOQUE];
+        }
+        int i = desde;
+        while (i < hasta) {
+            int largo = Math.min(hasta - i, celdasTramo.length);
+            int traducidos = tramoSimple.traducir(fragmento, i, i + largo, celdasTramo);
+            salida.append(celdasTramo, 0, traducidos);
+            i += traducidos;
+            if (traducidos < largo) {
+                break;
+            }
+        }
+        if (i > desde) {
+            // El tramo sigue a una minúscula y no tiene mayúsculas ni dígitos:
+            // basta con registrar su último carácter
+            registrarSinPrefijo(clasificar(fragmento[i - 1]));
+        }
+        return i;
+    }
+
+    /**
+     * Emite lo que quede pendiente al terminar el texto.
+     *
+     * @param salida Donde se agregan las celdas Braille.
+     */
+    void finalizar(StringBuilder salida) {
+        this.salida = salida;
+        cerrarPalabra();
+    }
+
+    /**
+     * @return Caracteres procesados hasta ahora.
+     */
+    long getCaracteres() {
+        return caracteres;
+    }
+
+    @Override
+    void escribirCelda(char celda) {
+        salida.append(celda);
+    }
+
+    @Override
+    void escribirCaracter(char c) {
+        salida.append(c);
+    }
+}
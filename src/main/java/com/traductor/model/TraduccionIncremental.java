@@ -0,0 +1,180 @@
+package com.traductor.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mantiene la traducción de un texto que se edita y vuelve a traducir solo
+ * la zona afectada por cada cambio.
+ *
+ * <p>El texto se divide en bloques que empiezan justo antes de un espacio en
+ * blanco, donde el estado de la traducción se reinicia, así que la
+ * traducción completa es la concatenación de las traducciones de los
+ * bloques. De cada bloque solo se guarda su longitud de entrada y de salida;
+ * una edición vuelve a traducir los bloques que toca y devuelve un
+ * {@link Parche} para aplicar sobre la traducción anterior.</p>
+ *
+ * <p>No es seguro para uso concurrente: debe usarse siempre desde el mismo
+ * hilo.</p>
+ *
+ * @see TraductorBraille
+ */
+public class TraduccionIncremental {
+    // Tamaño mínimo de un bloque; se corta en el primer espacio en blanco a partir de él
+    private static final int TAMANO_BLOQUE = 1024;
+
+    private final TraductorBraille traductor;
+    private final List<int[]> bloques = new ArrayList<>();
+    private int longitudEntrada;
+
+    /**
+     * Inicializa la traducción incremental de un texto vacío.
+     *
+     * @param traductor El traductor a usar.
+     */
+    public TraduccionIncremental(TraductorBraille traductor) {
+        this.traductor = traductor;
+    }
+
+    /**
+     * Traduce un texto completo y descarta el estado anterior.
+     *
+     * @param texto El texto a traducir.
+     * @return El texto traducido a Braille.
+     */
+    public String reiniciar(String texto) {
+        bloques.clear();
+        longitudEntrada = texto.length();
+        StringBuilder salida = new StringBuilder(texto.length() + (texto.length() >> 2) + 16);
+        dividir(texto, 0, texto.length(), salida, 0);
+        return salida.toString();
+    }
+
+    /**
+     * Aplica una edición y traduce de nuevo la zona afectada.
+     * La edición reemplaza el rango [inicio, finAnterior) del texto anterior
+     * por el rango [inicio, finNuevo) de {@code textoNuevo}.
+     *
+     * @param textoNuevo  El texto completo después de la edición.
+     * @param inicio      Posición donde empieza el cambio.
+     * @param finAnterior Fin del rango reemplazado, en el texto anterior.
+     * @param finNuevo    Fin del texto insertado, en el texto nuevo.
+     * @return El parche a aplicar sobre la traducción anterior.
+     */
+    public Parche actualizar(String textoNuevo, int inicio, int finAnterior, int finNuevo) {
+        int diferencia = finNuevo - finAnterior;
+        if (inicio < 0 || finAnterior < inicio || finNuevo < inicio || finAnterior > longitudEntrada
+                || textoNuevo.length() != longitudEntrada + diferencia) {
+            throw new IllegalArgumentException("La edición no corresponde al texto anterior");
+        }
+        if (bloques.isEmpty()) {
+            return new Parche(0, 0, reiniciar(textoNuevo));
+        }
+
+        // Bloques tocados: desde el que contiene el carácter anterior al cambio
+        // (una edición pegada al inicio de un bloque puede unir palabras) hasta
+        // el que contiene el último carácter reemplazado
+        int primero = 0;
+        int entradaPrimero = 0;
+        int salidaPrimero = 0;
+        int objetivo = Math.max(inicio - 1, 0);
+        while (primero < bloques.size() - 1 && entradaPrimero + bloques.get(primero)[0] <= objetivo) {
+            entradaPrimero += bloques.get(primero)[0];
+            salidaPrimero += bloques.get(primero)[1];
+            primero++;
+        }
+        int ultimo = primero;
+        int entradaFin = entradaPrimero + bloques.get(ultimo)[0];
+        int salidaFin = salidaPrimero + bloques.get(ultimo)[1];
+        while (ultimo < bloques.size() - 1 && entradaFin < finAnterior) {
+            ultimo++;
+            entradaFin += bloques.get(ultimo)[0];
+            salidaFin += bloques.get(ultimo)[1];
+        }
+
+        for (int i = ultimo; i >= primero; i--) {
+            bloques.remove(i);
+        }
+        longitudEntrada = textoNuevo.length();
+        StringBuilder salida = new StringBuilder();
+        dividir(textoNuevo, entradaPrimero, entradaFin + diferencia, salida, primero);
+        return new Parche(salidaPrimero, salidaFin, salida.toString());
+    }
+
+    /**
+     * @return Número de bloques en que está dividido el texto.
+     */
+    public int getNumeroBloques() {
+        return bloques.size();
+    }
+
+    /**
+     * Traduce un rango dividiéndolo en bloques nuevos.
+     *
+     * @param texto   El texto completo.
+     * @param inicio  Inicio del rango (inicio del texto o justo antes de un espacio en blanco).
+     * @param fin     Fin del rango (fin del texto o justo antes de un espacio en blanco).
+     * @param salida  Donde se agrega la traducción del rango.
+     * @param indice  Posición de la lista donde se insertan los bloques.
+     */
+    private void dividir(String texto, int inicio, int fin, StringBuilder salida, int indice) {
+        int posicion = inicio;
+        while (posicion < fin) {
+            int corte = Math.min(posicion + TAMANO_BLOQUE, fin);
+            while (corte < fin && !Character.isWhitespace(texto.charAt(corte))) {
+                corte++;
+            }
+            int longitudSalida = salida.length();
+            traductor.traducirRango(texto, posicion, corte, salida);
+            bloques.add(indice++, new int[]{corte - posicion, salida.length() - longitudSalida});
+            posicion = corte;
+        }
+    }
+
+    /**
+     * Reemplazo a aplicar sobre la traducción anterior: el rango
+     * [inicio, fin) se sustituye por {@link #getTexto()}.
+     */
+    public static final class Parche {
+        private final int inicio;
+        private final int fin;
+        private final String texto;
+
+        Parche(int inicio, int fin, String texto) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.texto = texto;
+        }
+
+        /**
+         * @return Inicio del rango reemplazado en la traducción anterior.
+         */
+        public int getInicio() {
+            return inicio;
+        }
+
+        /**
+         * @return Fin del rango reemplazado en la traducción anterior.
+         */
+        public int getFin() {
+            return fin;
+        }
+
+        /**
+         * @return La nueva traducción del rango.
+         */
+        public String getTexto() {
+            return texto;
+        }
+
+        /**
+         * Aplica el parche a una traducción.
+         *
+         * @param traduccion La traducción anterior.
+         * @return La traducción actualizada.
+         */
+        public String aplicar(String traduccion) {
+            return traduccion.substring(0, inicio) + texto + traduccion.substring(fin);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.traductor.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de traducir Braille de vuelta a texto con {@link TraductorInverso}.
+ *
+ * <p>Algunas celdas y combinaciones tienen más de una lectura posible (por
+ * ejemplo ⠦ es '?' o '¿', y ⠨⠓⠕⠇⠁ es "Hola" o "HOLA"). El texto contiene
+ * en esos tramos la primera alternativa, y cada tramo dudoso aparece en
+ * {@link #getAmbiguedades()} con todas sus lecturas. Los caracteres en
+ * mayúscula que no tenían celda y las celdas que no existen en el
+ * diccionario se leen como {@link #DESCONOCIDO}.</p>
+ *
+ * @see TraductorInverso
+ */
+public final class TraduccionInversa {
+
+    /**
+     * Carácter que ocupa el lugar de lo que no se puede recuperar.
+     */
+    public static final char DESCONOCIDO = '\uFFFD';
+
+    private final String texto;
+    private final List<Ambiguedad> ambiguedades;
+
+    TraduccionInversa(String texto, List<Ambiguedad> ambiguedades) {
+        this.texto = texto;
+        this.ambiguedades = Collections.unmodifiableList(ambiguedades);
+    }
+
+    /**
+     * @return El texto recuperado, con la primera lectura en los tramos ambiguos.
+     */
+    public String getTexto() {
+        return texto;
+    }
+
+    /**
+     * @return Los tramos con más de una lectura, en orden de aparición.
+     */
+    public List<Ambiguedad> getAmbiguedades() {
+        return ambiguedades;
+    }
+
+    /**
+     * @return true si algún tramo tiene más de una lectura.
+     */
+    public boolean esAmbigua() {
+        return !ambiguedades.isEmpty();
+    }
+
+    /**
+     * Verifica si un texto es una de las lecturas posibles de este resultado.
+     *
+     * @param original El texto a comprobar.
+     * @return true si coincide fuera de los tramos ambiguos y, dentro de
+     * cada uno, con alguna de sus alternativas.
+     */
+    public boolean admite(String original) {
+        if (original.length() != texto.length()) {
+            return false;
+        }
+        int posicion = 0;
+        for (Ambiguedad ambiguedad : ambiguedades) {
+            if (!original.regionMatches(posicion, texto, posicion, ambiguedad.inicio - posicion)) {
+                return false;
+            }
+            boolean alguna = false;
+            for (String alternativa : ambiguedad.alternativas) {
+                if (original.startsWith(alternativa, ambiguedad.inicio)) {
+                    alguna = true;
+                    break;
+                }
+            }
+            if (!alguna) {
+                return false;
+            }
+            posicion = ambiguedad.fin;
+        }
+        return original.regionMatches(posicion, texto, posicion, texto.length() - posicion);
+    }
+
+    @Override
+    public String toString() {
+        return texto;
+    }
+
+    /**
+     * Tramo del texto recuperado con más de una lectura posible.
+     */
+    public static final class Ambiguedad {
+        private final int inicio;
+        private final int fin;
+        private final int posicionBraille;
+        private final List<String> alternativas;
+
+        Ambiguedad(int inicio, int fin, int posicionBraille, List<String> alternativas) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.posicionBraille = posicionBraille;
+            this.alternativas = Collections.unmodifiableList(alternativas);
+        }
+
+        /**
+         * @return Posición inicial del tramo en el texto recuperado.
+         */
+        public int getInicio() {
+            return inicio;
+        }
+
+        /**
+         * @return Posición final (exclusiva) del tramo en el texto recuperado.
+         */
+        public int getFin() {
+            return fin;
+        }
+
+        /**
+         * @return Posición de la primera celda del tramo en el texto Braille.
+         */
+        public int getPosicionBraille() {
+            return posicionBraille;
+        }
+
+        /**
+         * @return Las lecturas posibles del tramo, todas de la misma longitud.
+         */
+        public List<String> getAlternativas() {
+            return alternativas;
+        }
+
+        @Override
+        public String toString() {
+            return inicio + "-" + fin + " " + alternativas;
+        }
+    }
+}
@@ -1,19 +1,39 @@
 package com.traductor.model;
 
+import com.traductor.metricas.Metricas;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
 /**
  * Implementa la traducción de texto a Braille.
  *
+ * <p>Las reglas de la traducción (modo número y prefijos de mayúscula) son
+ * las de {@link EstadoTraduccion}, compartidas con {@link TranscodificadorUTF8};
+ * aquí solo se lee el texto por fragmentos y se componen los acentos.</p>
+ *
+ * <p>Es seguro para uso concurrente: no guarda estado entre llamadas (cada
+ * traducción crea su propio {@link TraduccionContinua}) y todas las
+ * instancias comparten el diccionario inmutable de
+ * {@link DiccionarioBraille#obtenerInstancia()}, así que crear un traductor
+ * no cuesta nada y una sola instancia puede atender a todos los hilos de un
+ * servidor.</p>
+ *
  * @see ITraductor
  * @see DiccionarioBraille
  */
 public class TraductorBraille implements ITraductor {
-    private DiccionarioBraille diccionario;
+    // Tamaño de los fragmentos en que se traduce el texto
+    private static final int TAMANO_FRAGMENTO = 8192;
+    
+    private final DiccionarioBraille diccionario;
     
     /**
-     * Inicializa el traductor con un diccionario.
+     * Inicializa el traductor con el diccionario compartido.
      */
     public TraductorBraille() {
-        this.diccionario = new DiccionarioBraille();
+        this.diccionario = DiccionarioBraille.obtenerInstancia();
     }
     
     /**
@@ -27,143 +47,120 @@ public class TraductorBraille implements ITraductor {
             return "";
         }
         
-        StringBuilder resultado = new StringBuilder();
-        boolean enModoNumero = false;
-        
-        for (int i = 0; i < texto.length(); i++) {
-            char caracter = texto.charAt(i);
-            
-            // Detectar si es un número
-            if (diccionario.esNumero(caracter)) {
-                // Si no estamos en modo número, agregar el prefijo
-                if (!enModoNumero) {
-                    SimboloBraille prefijo = new SimboloBraille(diccionario.obtenerPrefijoNumero());
-                    resultado.append(convertirABrailleUnicode(prefijo));
-                    enModoNumero = true;
-                }
-                
-                SimboloBraille simbolo = getSimbolo(caracter);
-                if (simbolo != null) {
-                    resultado.append(convertirABrailleUnicode(simbolo));
-                }
-            } else if (caracter == ',' || caracter == '.') {
-                // Puntos y comas no salen del modo número
-                SimboloBraille simbolo = getSimbolo(caracter);
-                if (simbolo != null) {
-                    resultado.append(convertirABrailleUnicode(simbolo));
-                }
-            } else if (caracter == ' ') {
-                // Los espacios salen del modo número
-                enModoNumero = false;
-                SimboloBraille simbolo = getSimbolo(caracter);
-                if (simbolo != null) {
-                    resultado.append(convertirABrailleUnicode(simbolo));
-                }
-            } else {
-                // Cualquier otro carácter sale del modo número
-                enModoNumero = false;
-                
-                // Detectar si es mayúscula
-                if (Character.isUpperCase(caracter)) {
-                    // Verificar si la palabra completa está en mayúsculas
-                    boolean palabraCompletaMayuscula = esPalabraCompletaMayuscula(texto, i);
-                    
-                    if (palabraCompletaMayuscula) {
-                        // Solo agregar prefijo de mayúscula al inicio de la palabra
-                        boolean esInicioPalabra = (i == 0 || !Character.isLetter(texto.charAt(i - 1)));
-                        if (esInicioPalabra) {
-                            SimboloBraille prefijoMayus = new SimboloBraille(diccionario.obtenerPrefijoMayuscula());
-                            resultado.append(convertirABrailleUnicode(prefijoMayus));
-                        }
-                    } else {
-                        // Agregar prefijo de mayúscula para cada letra mayúscula individual
-                        SimboloBraille prefijoMayus = new SimboloBraille(diccionario.obtenerPrefijoMayuscula());
-                        resultado.append(convertirABrailleUnicode(prefijoMayus));
-                    }
-                    
-                    // Convertir a minúscula para obtener el símbolo
-                    SimboloBraille simbolo = getSimbolo(Character.toLowerCase(caracter));
-                    if (simbolo != null) {
-                        resultado.append(convertirABrailleUnicode(simbolo));
-                    }
-                } else {
-                    SimboloBraille simbolo = getSimbolo(caracter);
-                    if (simbolo != null) {
-                        resultado.append(convertirABrailleUnicode(simbolo));
-                    } else {
-                        resultado.append(caracter); // Mantener caracteres no traducibles
-                    }
-                }
-            }
-        }
-        
+        long inicio = Metricas.iniciar(texto.length());
+        // Cada carácter produce como mucho dos celdas (prefijo + símbolo)
+        StringBuilder resultado = new StringBuilder(texto.length() + (texto.length() >> 2) + 16);
+        int sinTraducir = traducirRango(texto, 0, texto.length(), resultado);
+        Metricas.registrarTraduccion(inicio, texto.length(), sinTraducir);
         return resultado.toString();
     }
     
     /**
-     * Verifica si una palabra completa está en mayúsculas.
+     * Traduce un rango del texto como si fuera un texto independiente.
+     * Si el rango empieza y termina en un espacio en blanco (o en los
+     * extremos del texto), el resultado coincide con el del texto completo.
+     * Los acentos escritos como marca combinable se componen antes de
+     * traducirlos (ver {@link NormalizadorNFC}).
      *
-     * @param texto El texto completo.
-     * @param posicion La posición del carácter actual.
-     * @return true si la palabra completa está en mayúsculas, false en caso contrario.
+     * @param texto     El texto a traducir.
+     * @param inicio    Posición inicial del rango (incluida).
+     * @param fin       Posición final del rango (excluida).
+     * @param resultado Donde se agregan las celdas Braille.
+     * @return Número de caracteres sin celda copiados tal cual.
      */
-    private boolean esPalabraCompletaMayuscula(String texto, int posicion) {
-        // Encontrar el inicio de la palabra
-        int inicio = posicion;
-        while (inicio > 0 && Character.isLetter(texto.charAt(inicio - 1))) {
-            inicio--;
-        }
-        
-        // Encontrar el fin de la palabra
-        int fin = posicion;
-        while (fin < texto.length() && Character.isLetter(texto.charAt(fin))) {
-            fin++;
-        }
+    int traducirRango(String texto, int inicio, int fin, StringBuilder resultado) {
+        TraduccionContinua estado = new TraduccionContinua(diccionario);
+        char[] fragmento = new char[Math.min(fin - inicio, TAMANO_FRAGMENTO)];
         
-        // Verificar si todas las letras de la palabra son mayúsculas
-        for (int i = inicio; i < fin; i++) {
-            char c = texto.charAt(i);
-            if (Character.isLetter(c) && !Character.isUpperCase(c)) {
-                return false;
-            }
+        // Caracteres guardados al principio del fragmento desde la copia anterior
+        int pendientes = 0;
+        int posicion = inicio;
+        while (posicion < fin) {
+            int copiados = Math.min(fin - posicion, fragmento.length - pendientes);
+            texto.getChars(posicion, posicion + copiados, fragmento, pendientes);
+            posicion += copiados;
+            pendientes = traducirFragmento(estado, fragmento, pendientes + copiados, posicion == fin, resultado);
         }
         
-        // Solo considerar como palabra completa en mayúsculas si tiene al menos 2 letras
-        return (fin - inicio) >= 2;
+        estado.finalizar(resultado);
+        return (int) estado.getSinTraducir();
     }
     
     /**
-     * Convierte un símbolo Braille a su representación Unicode.
+     * Traduce el contenido de un lector por fragmentos de tamaño fijo.
+     * El modo número y la detección de palabras en mayúsculas se conservan
+     * entre fragmentos, por lo que el resultado es idéntico al de
+     * {@link #traducir(String)} y la memoria usada no depende del tamaño del
+     * texto (salvo por la palabra en mayúsculas más larga). Los caracteres
+     * del final de cada fragmento a los que todavía puede seguir una marca
+     * combinable se guardan para el siguiente.
      *
-     * @param simbolo El símbolo Braille a convertir.
-     * @return El carácter Unicode Braille correspondiente.
+     * @param entrada El lector con el texto a traducir.
+     * @param salida  El destino del texto traducido.
+     * @throws IOException Si ocurre un error al leer o escribir.
      */
-    private String convertirABrailleUnicode(SimboloBraille simbolo) {
-        // El Unicode Braille comienza en U+2800
-        // Cada punto se mapea a un bit: punto1=bit0, punto2=bit1, punto3=bit2, etc.
-        int valor = 0x2800;
+    @Override
+    public void traducir(Reader entrada, Appendable salida) throws IOException {
+        long inicio = Metricas.iniciar(-1);
+        TraduccionContinua estado = new TraduccionContinua(diccionario);
+        char[] fragmento = new char[TAMANO_FRAGMENTO];
+        StringBuilder resultado = new StringBuilder(TAMANO_FRAGMENTO * 2);
         
-        if (simbolo.isPuntoActivado(1)) valor += 0x01;
-        if (simbolo.isPuntoActivado(2)) valor += 0x02;
-        if (simbolo.isPuntoActivado(3)) valor += 0x04;
-        if (simbolo.isPuntoActivado(4)) valor += 0x08;
-        if (simbolo.isPuntoActivado(5)) valor += 0x10;
-        if (simbolo.isPuntoActivado(6)) valor += 0x20;
+        // Caracteres guardados al principio del fragmento desde la lectura anterior
+        int pendientes = 0;
+        int leidos;
+        while ((leidos = entrada.read(fragmento, pendientes, fragmento.length - pendientes)) != -1) {
+            pendientes = traducirFragmento(estado, fragmento, pendientes + leidos, false, resultado);
+            salida.append(resultado);
+            resultado.setLength(0);
+        }
         
-        return String.valueOf((char) valor);
+        traducirFragmento(estado, fragmento, pendientes, true, resultado);
+        estado.finalizar(resultado);
+        salida.append(resultado);
+        Metricas.registrarTraduccion(inicio, estado.getCaracteres(), estado.getSinTraducir());
+    }
+    
+    /**
+     * Traduce un fragmento componiendo antes las marcas combinables, si las
+     * hay. Salvo en el último, los caracteres del final a los que todavía
+     * puede seguir una marca se dejan al principio del fragmento para la
+     * siguiente vuelta.
+     *
+     * @param estado    El estado de la traducción por fragmentos.
+     * @param fragmento Los caracteres a traducir, desde la posición 0.
+     * @param total     Número de caracteres del fragmento.
+     * @param ultimo    Si no quedan más caracteres después de este fragmento.
+     * @param resultado Donde se agregan las celdas Braille.
+     * @return Número de caracteres guardados para el siguiente fragmento.
+     */
+    private static int traducirFragmento(TraduccionContinua estado, char[] fragmento, int total, boolean ultimo,
+                                         StringBuilder resultado) {
+        int corte = ultimo ? total : NormalizadorNFC.buscarUltimoCorte(fragmento, 0, total);
+        if (corte == 0 && total == fragmento.length) {
+            // Fragmento lleno sin ningún corte seguro: se traduce entero
+            corte = total;
+        }
+        if (NormalizadorNFC.buscarMarca(fragmento, 0, corte) == corte) {
+            estado.procesar(fragmento, 0, corte, resultado);
+        } else {
+            char[] compuesto = NormalizadorNFC.componer(CharBuffer.wrap(fragmento), 0, corte).toCharArray();
+            estado.procesar(compuesto, 0, compuesto.length, resultado);
+        }
+        int pendientes = total - corte;
+        System.arraycopy(fragmento, corte, fragmento, 0, pendientes);
+        return pendientes;
     }
     
     /**
      * Obtiene el símbolo Braille correspondiente a un carácter.
+     * Devuelve la instancia compartida del símbolo, sin reservar memoria.
      *
      * @param caracter El carácter a convertir.
-     * @return El símbolo Braille correspondiente.
+     * @return El símbolo Braille correspondiente, o null si no tiene.
      */
     public SimboloBraille getSimbolo(char caracter) {
-        String patron = diccionario.obtenerPatron(caracter);
-        if (patron != null) {
-            return new SimboloBraille(patron);
-        }
-        return null;
+        char celda = diccionario.obtenerCelda(caracter);
+        return celda != DiccionarioBraille.SIN_CELDA ? SimboloBraille.desdeUnicode(celda) : null;
     }
 }
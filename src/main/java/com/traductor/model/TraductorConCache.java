@@ -0,0 +1,229 @@
+package com.traductor.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de {@link ITraductor} que guarda las traducciones recientes.
+ * Pensado para señalética, donde los mismos textos se traducen una y otra vez.
+ *
+ * <p>La caché se divide en segmentos LRU independientes, cada uno con su
+ * propio candado, y se limita tanto por número de entradas como por peso
+ * (caracteres de la entrada más los de la traducción). Los textos más largos
+ * que {@code longitudMaximaEntrada} no se guardan para no vaciar la caché.
+ * Es segura para uso concurrente.</p>
+ *
+ * @see ITraductor
+ */
+public class TraductorConCache implements ITraductor {
+    /**
+     * Número de entradas máximo por defecto.
+     */
+    public static final int MAX_ENTRADAS_POR_DEFECTO = 10_000;
+
+    /**
+     * Peso máximo por defecto, en caracteres.
+     */
+    public static final long MAX_PESO_POR_DEFECTO = 4L * 1024 * 1024;
+
+    /**
+     * Longitud máxima por defecto de los textos que se guardan.
+     */
+    public static final int LONGITUD_MAXIMA_POR_DEFECTO = 1024;
+
+    private static final int SEGMENTOS = 16;
+
+    private final ITraductor traductor;
+    private final int longitudMaximaEntrada;
+    private final Segmento[] segmentos;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+    private final LongAdder omitidos = new LongAdder();
+
+    /**
+     * Inicializa la caché con los límites por defecto.
+     *
+     * @param traductor El traductor a decorar.
+     */
+    public TraductorConCache(ITraductor traductor) {
+        this(traductor, MAX_ENTRADAS_POR_DEFECTO, MAX_PESO_POR_DEFECTO, LONGITUD_MAXIMA_POR_DEFECTO);
+    }
+
+    /**
+     * Inicializa la caché.
+     *
+     * @param traductor             El traductor a decorar.
+     * @param maxEntradas           Número máximo de traducciones guardadas.
+     * @param maxPeso               Peso máximo total, en caracteres.
+     * @param longitudMaximaEntrada Longitud máxima de los textos que se guardan.
+     */
+    public TraductorConCache(ITraductor traductor, int maxEntradas, long maxPeso, int longitudMaximaEntrada) {
+        if (maxEntradas < 1 || maxPeso < 1) {
+            throw new IllegalArgumentException("Los límites de la caché deben ser positivos");
+        }
+        this.traductor = traductor;
+        this.longitudMaximaEntrada = longitudMaximaEntrada;
+        this.segmentos = new Segmento[SEGMENTOS];
+        for (int i = 0; i < SEGMENTOS; i++) {
+            segmentos[i] = new Segmento(Math.max(1, maxEntradas / SEGMENTOS), Math.max(1, maxPeso / SEGMENTOS));
+        }
+    }
+
+    /**
+     * Traduce un texto, usando la traducción guardada si existe.
+     *
+     * @param texto El texto a traducir.
+     * @return El texto traducido.
+     */
+    @Override
+    public String traducir(String texto) {
+        if (texto == null || texto.length() > longitudMaximaEntrada) {
+            omitidos.increment();
+            return traductor.traducir(texto);
+        }
+
+        Segmento segmento = segmentoPara(texto);
+        String traduccion = segmento.obtener(texto);
+        if (traduccion != null) {
+            aciertos.increment();
+            return traduccion;
+        }
+
+        // Se traduce fuera del candado: dos hilos pueden traducir el mismo texto a la vez
+        fallos.increment();
+        traduccion = traductor.traducir(texto);
+        desalojos.add(segmento.guardar(texto, traduccion));
+        return traduccion;
+    }
+
+    /**
+     * Traduce un flujo de texto sin pasar por la caché.
+     *
+     * @param entrada El lector con el texto a traducir.
+     * @param salida  El destino del texto traducido.
+     * @throws IOException Si ocurre un error al leer o escribir.
+     */
+    @Override
+    public void traducir(Reader entrada, Appendable salida) throws IOException {
+        traductor.traducir(entrada, salida);
+    }
+
+    /**
+     * Vacía la caché sin reiniciar los contadores.
+     */
+    public void limpiar() {
+        for (Segmento segmento : segmentos) {
+            segmento.limpiar();
+        }
+    }
+
+    /**
+     * @return Número de traducciones obtenidas de la caché.
+     */
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    /**
+     * @return Número de traducciones que no estaban en la caché.
+     */
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    /**
+     * @return Número de entradas desalojadas por falta de espacio.
+     */
+    public long getDesalojos() {
+        return desalojos.sum();
+    }
+
+    /**
+     * @return Número de textos que no pasaron por la caché por su longitud.
+     */
+    public long getOmitidos() {
+        return omitidos.sum();
+    }
+
+    /**
+     * @return Número de traducciones guardadas actualmente.
+     */
+    public int getTamano() {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            total += segmento.tamano();
+        }
+        return total;
+    }
+
+    /**
+     * Elige el segmento de un texto a partir de su hash.
+     *
+     * @param texto El texto a buscar.
+     * @return El segmento que le corresponde.
+     */
+    private Segmento segmentoPara(String texto) {
+        int hash = texto.hashCode();
+        hash ^= hash >>> 16;
+        return segmentos[hash & (SEGMENTOS - 1)];
+    }
+
+    /**
+     * Segmento LRU de la caché, protegido por su propio candado.
+     */
+    private static class Segmento {
+        private final int maxEntradas;
+        private final long maxPeso;
+        private final LinkedHashMap<String, String> mapa;
+        private long peso;
+
+        Segmento(int maxEntradas, long maxPeso) {
+            this.maxEntradas = maxEntradas;
+            this.maxPeso = maxPeso;
+            // Orden de acceso: la primera entrada es la menos usada recientemente
+            this.mapa = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        synchronized String obtener(String texto) {
+            return mapa.get(texto);
+        }
+
+        /**
+         * Guarda una traducción y desaloja las menos recientes si hace falta.
+         *
+         * @return Número de entradas desalojadas.
+         */
+        synchronized int guardar(String texto, String traduccion) {
+            String anterior = mapa.put(texto, traduccion);
+            if (anterior != null) {
+                peso -= texto.length() + anterior.length();
+            }
+            peso += texto.length() + traduccion.length();
+
+            int desalojadas = 0;
+            Iterator<Map.Entry<String, String>> it = mapa.entrySet().iterator();
+            while ((mapa.size() > maxEntradas || peso > maxPeso) && it.hasNext()) {
+                Map.Entry<String, String> masAntigua = it.next();
+                peso -= masAntigua.getKey().length() + masAntigua.getValue().length();
+                it.remove();
+                desalojadas++;
+            }
+            return desalojadas;
+        }
+
+        synchronized void limpiar() {
+            mapa.clear();
+            peso = 0;
+        }
+
+        synchronized int tamano() {
+            return mapa.size();
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.traductor.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Traduce Braille Unicode de vuelta a texto, deshaciendo las reglas de
+ * {@link TraductorBraille}: el prefijo de número (3456) convierte las celdas
+ * a-j siguientes en dígitos hasta el primer carácter que no sea dígito, coma
+ * o punto, y el prefijo de mayúscula (46) pone en mayúscula la letra
+ * siguiente o, si la sigue una palabra de varias letras, toda la palabra.
+ *
+ * <p>Cada celda se decodifica con tablas de 64 entradas derivadas de
+ * {@link DiccionarioBraille#obtenerCaracteres(char)}. Cuando una celda o
+ * una palabra tiene más de una lectura no se adivina: el resultado
+ * lista todas en {@link TraduccionInversa#getAmbiguedades()}. Son ambiguas
+ * las celdas compartidas entre un signo y una letra (⠌ es '/' o 'í', ⠬ es
+ * '+' u 'ó'), también tras un prefijo de mayúscula; las palabras con un
+ * solo prefijo ("Hola" o "HOLA"); y las celdas a-j que siguen a un dígito,
+ * porque la traducción directa sale del modo número sin ninguna marca
+ * ("1a" y "11" dan las mismas celdas). Los caracteres que no son Braille
+ * se copian tal cual, igual que {@link TraductorBraille} los copió. Es
+ * seguro para uso concurrente.</p>
+ *
+ * @see TraduccionInversa
+ * @see VerificadorIdaVuelta
+ */
+public class TraductorInverso {
+    // Celdas de 6 puntos: U+2800 a U+283F
+    private static final int CELDAS = 64;
+    private static final char PRIMERA_CELDA = '\u2800';
+    // Lecturas listadas como mucho en un tramo ambiguo tras un prefijo de
+    // mayúscula; solo se alcanza con palabras llenas de celdas compartidas
+    private static final int MAX_ALTERNATIVAS = 64;
+
+    private final char prefijoNumero;
+    private final char prefijoMayuscula;
+    private final char celdaComa;
+    private final char celdaPunto;
+
+    // Lecturas de cada celda fuera del modo número (sin los dígitos)
+    private final String[] lecturas = new String[CELDAS];
+    // Dígito de cada celda en modo número, o 0
+    private final char[] digitos = new char[CELDAS];
+    // Letra (en minúscula) que puede representar cada celda, o 0
+    private final char[] letras = new char[CELDAS];
+
+    /**
+     * Inicializa el traductor inverso con el diccionario por defecto.
+     */
+    public TraductorInverso() {
+        this(DiccionarioBraille.obtenerInstancia());
+    }
+
+    /**
+     * Inicializa el traductor inverso a partir de un diccionario.
+     *
+     * @param diccionario El diccionario usado en la traducción directa.
+     */
+    public TraductorInverso(DiccionarioBraille diccionario) {
+        this.prefijoNumero = diccionario.obtenerCeldaPrefijoNumero();
+        this.prefijoMayuscula = diccionario.obtenerCeldaPrefijoMayuscula();
+        this.celdaComa = diccionario.obtenerCelda(',');
+        this.celdaPunto = diccionario.obtenerCelda('.');
+
+        for (int i = 0; i < CELDAS; i++) {
+            StringBuilder sinDigitos = new StringBuilder();
+            for (char c : diccionario.obtenerCaracteres((char) (PRIMERA_CELDA + i)).toCharArray()) {
+                if (Character.isDigit(c)) {
+                    digitos[i] = c;
+                } else {
+                    sinDigitos.append(c);
+                    if (Character.isLetter(c)) {
+                        letras[i] = c;
+                    }
+                }
+            }
+            lecturas[i] = sinDigitos.toString();
+        }
+    }
+
+    /**
+     * Traduce un texto Braille a texto.
+     *
+     * @param braille El texto en Braille Unicode.
+     * @return El texto recuperado y sus tramos ambiguos.
+     */
+    public TraduccionInversa traducir(String braille) {
+        if (braille == null || braille.isEmpty()) {
+            return new TraduccionInversa("", Collections.emptyList());
+        }
+
+        StringBuilder texto = new StringBuilder(braille.length());
+        List<TraduccionInversa.Ambiguedad> ambiguedades = new ArrayList<>(0);
+        int n = braille.length();
+        int i = 0;
+
+        while (i < n) {
+            char c = braille.charAt(i);
+            int celda = c - PRIMERA_CELDA;
+
+            if (celda < 0 || celda >= CELDAS) {
+                // Carácter copiado sin traducir
+                texto.append(c);
+                i++;
+                continue;
+            }
+
+            if (c == prefijoNumero) {
+                i = leerNumero(braille, i + 1, texto, ambiguedades);
+                continue;
+            }
+
+            if (c == prefijoMayuscula) {
+                i = leerMayuscula(braille, i + 1, texto, ambiguedades);
+                continue;
+            }
+
+            leerCelda(celda, i, texto, ambiguedades);
+            i++;
+        }
+
+        return new TraduccionInversa(texto.toString(), ambiguedades);
+    }
+
+    /**
+     * Lee lo que sigue a un prefijo de número: los dígitos (celdas a-j), comas
+     * y puntos hasta la primera celda que no lo sea. Tras el primer dígito,
+     * una celda a-j también puede ser la primera letra de lo que sigue al
+     * número ("1a" y "11"); a partir de esa letra ya no hay dígitos sin un
+     * nuevo prefijo. Las lecturas posibles forman un solo tramo ambiguo, una
+     * por cada celda en la que se puede pasar de dígitos a letras.
+     *
+     * @param braille      El texto Braille.
+     * @param inicio       Posición de la celda siguiente al prefijo.
+     * @param texto        Donde se agrega el texto recuperado.
+     * @param ambiguedades Donde se agregan los tramos ambiguos.
+     * @return La posición de la primera celda no leída.
+     */
+    private int leerNumero(String braille, int inicio, StringBuilder texto,
+                           List<TraduccionInversa.Ambiguedad> ambiguedades) {
+        int fin = inicio;
+        // Primera celda a-j que puede ser una letra, o -1
+        int primeraLetra = -1;
+        while (fin < braille.length()) {
+            char c = braille.charAt(fin);
+            int celda = c - PRIMERA_CELDA;
+            if (celda >= 0 && celda < CELDAS && digitos[celda] != 0) {
+                if (primeraLetra < 0 && fin > inicio && letras[celda] != 0) {
+                    primeraLetra = fin;
+                }
+            } else if (c != celdaComa && c != celdaPunto) {
+                // La coma y el punto no terminan el número
+                break;
+            }
+            fin++;
+        }
+
+        int posicionTexto = texto.length();
+        for (int j = inicio; j < fin; j++) {
+            texto.append(leerEnNumero(braille.charAt(j), false));
+        }
+        if (primeraLetra < 0) {
+            return fin;
+        }
+
+        int desdeTexto = posicionTexto + primeraLetra - inicio;
+        List<String> alternativas = new ArrayList<>();
+        alternativas.add(texto.substring(desdeTexto));
+        for (int cambio = primeraLetra; cambio < fin; cambio++) {
+            int celda = braille.charAt(cambio) - PRIMERA_CELDA;
+            if (celda < 0 || celda >= CELDAS || digitos[celda] == 0) {
+                continue;
+            }
+            StringBuilder lectura = new StringBuilder(texto.substring(desdeTexto, posicionTexto + cambio - inicio));
+            for (int j = cambio; j < fin; j++) {
+                lectura.append(leerEnNumero(braille.charAt(j), true));
+            }
+            alternativas.add(lectura.toString());
+        }
+        ambiguedades.add(new TraduccionInversa.Ambiguedad(desdeTexto, texto.length(), primeraLetra, alternativas));
+        return fin;
+    }
+
+    /**
+     * Lee una celda de un número: un dígito, una coma o un punto.
+     *
+     * @param c        La celda.
+     * @param comoLetra Si las celdas a-j se leen como letras y no como dígitos.
+     * @return El carácter leído.
+     */
+    private char leerEnNumero(char c, boolean comoLetra) {
+        int celda = c - PRIMERA_CELDA;
+        if (digitos[celda] != 0) {
+            return comoLetra ? letras[celda] : digitos[celda];
+        }
+        return lecturas[celda].charAt(0);
+    }
+
+    /**
+     * Lee lo que sigue a un prefijo de mayúscula: la letra en mayúscula y las
+     * que la siguen dentro de la palabra. El prefijo solo precede a
+     * caracteres en mayúscula, así que la primera celda es siempre una letra.
+     * Las demás admiten varias lecturas:
+     *
+     * <ul>
+     *   <li>"Hola": el resto de la palabra en minúscula.</li>
+     *   <li>"HOLA": toda la palabra en mayúscula, con un solo prefijo. Solo
+     *       si la palabra termina en un espacio, un signo o el final del
+     *       texto: si la sigue otro prefijo de mayúscula ("HoLA" da
+     *       ⠨⠓⠕⠨⠇⠨⠁) no estaba toda en mayúscula.</li>
+     *   <li>"A/b": una celda compartida entre una letra y un signo (⠌, ⠬)
+     *       leída como el signo, que termina la palabra; las celdas
+     *       siguientes se leen como texto en minúscula.</li>
+     * </ul>
+     *
+     * Todas las lecturas forman un solo tramo ambiguo que empieza en la
+     * primera letra, con un máximo de {@value #MAX_ALTERNATIVAS}.
+     *
+     * @param braille      El texto Braille.
+     * @param inicio       Posición de la celda siguiente al prefijo.
+     * @param texto        Donde se agrega el texto recuperado.
+     * @param ambiguedades Donde se agregan los tramos ambiguos.
+     * @return La posición de la primera celda no leída.
+     */
+    private int leerMayuscula(String braille, int inicio, StringBuilder texto,
+                              List<TraduccionInversa.Ambiguedad> ambiguedades) {
+        int fin = inicio;
+        while (fin < braille.length() && esLetra(braille.charAt(fin))) {
+            fin++;
+        }
+
+        if (fin == inicio) {
+            // Carácter en mayúscula sin celda propia (Ⓐ, Ⅰ o una letra fuera del diccionario)
+            texto.append(TraduccionInversa.DESCONOCIDO);
+            return inicio;
+        }
+
+        int posicionTexto = texto.length();
+        texto.append(Character.toUpperCase(letra(braille.charAt(inicio))));
+        for (int j = inicio + 1; j < fin; j++) {
+            texto.append(letra(braille.charAt(j)));
+        }
+        boolean finDePalabra = fin == braille.length() || braille.charAt(fin) != prefijoMayuscula;
+
+        Set<String> alternativas = new LinkedHashSet<>();
+        alternativas.add(texto.substring(posicionTexto));
+        if (fin - inicio > 1 && finDePalabra) {
+            alternativas.add(leerEnMayuscula(braille, inicio, fin));
+        }
+        StringBuilder lectura = new StringBuilder();
+        for (int signo = inicio + 1; signo < fin; signo++) {
+            String candidatos = lecturas[braille.charAt(signo) - PRIMERA_CELDA];
+            if (candidatos.length() < 2) {
+                continue;
+            }
+            // La palabra termina en el signo: "Hola/" o "HOLA/"
+            String titulo = texto.substring(posicionTexto, posicionTexto + signo - inicio);
+            String mayusculas = leerEnMayuscula(braille, inicio, signo);
+            for (int k = 0; k < candidatos.length(); k++) {
+                char c = candidatos.charAt(k);
+                if (Character.isLetter(c)) {
+                    continue;
+                }
+                for (String palabra : titulo.equals(mayusculas) ? List.of(titulo) : List.of(titulo, mayusculas)) {
+                    lectura.setLength(0);
+                    lectura.append(palabra).append(c);
+                    agregarLecturasMinuscula(braille, signo + 1, fin, lectura, alternativas);
+                }
+            }
+        }
+
+        if (alternativas.size() > 1) {
+            ambiguedades.add(new TraduccionInversa.Ambiguedad(posicionTexto, texto.length(), inicio - 1,
+                    new ArrayList<>(alternativas)));
+        }
+        return fin;
+    }
+
+    /**
+     * Lee unas celdas de letra en mayúscula.
+     *
+     * @param braille El texto Braille.
+     * @param desde   Posición inicial (incluida).
+     * @param hasta   Posición final (excluida).
+     * @return Las letras en mayúscula.
+     */
+    private String leerEnMayuscula(String braille, int desde, int hasta) {
+        char[] mayusculas = new char[hasta - desde];
+        for (int j = desde; j < hasta; j++) {
+            mayusculas[j - desde] = Character.toUpperCase(letra(braille.charAt(j)));
+        }
+        return new String(mayusculas);
+    }
+
+    /**
+     * Agrega todas las lecturas en minúscula de unas celdas de letra, cada
+     * una precedida de una lectura ya hecha, sin pasar de
+     * {@value #MAX_ALTERNATIVAS}.
+     *
+     * @param braille      El texto Braille.
+     * @param desde        Posición de la siguiente celda a leer.
+     * @param hasta        Posición final (excluida).
+     * @param lectura      La lectura hecha hasta ahora; se restaura al volver.
+     * @param alternativas Donde se agregan las lecturas completas.
+     */
+    private void agregarLecturasMinuscula(String braille, int desde, int hasta, StringBuilder lectura,
+                                          Set<String> alternativas) {
+        if (alternativas.size() >= MAX_ALTERNATIVAS) {
+            return;
+        }
+        if (desde == hasta) {
+            alternativas.add(lectura.toString());
+            return;
+        }
+        String candidatos = lecturas[braille.charAt(desde) - PRIMERA_CELDA];
+        int largo = lectura.length();
+        for (int k = 0; k < candidatos.length(); k++) {
+            lectura.append(candidatos.charAt(k));
+            agregarLecturasMinuscula(braille, desde + 1, hasta, lectura, alternativas);
+            lectura.setLength(largo);
+        }
+    }
+
+    /**
+     * Lee una celda fuera del modo número.
+     *
+     * @param celda        El índice de la celda (0 a 63).
+     * @param posicion     Posición de la celda en el texto Braille.
+     * @param texto        Donde se agrega el texto recuperado.
+     * @param ambiguedades Donde se agregan los tramos ambiguos.
+     */
+    private void leerCelda(int celda, int posicion, StringBuilder texto,
+                           List<TraduccionInversa.Ambiguedad> ambiguedades) {
+        String candidatos = lecturas[celda];
+        if (candidatos.isEmpty()) {
+            texto.append(TraduccionInversa.DESCONOCIDO);
+            return;
+        }
+        texto.append(candidatos.charAt(0));
+        if (candidatos.length() > 1) {
+            List<String> alternativas = new ArrayList<>(candidatos.length());
+            for (int k = 0; k < candidatos.length(); k++) {
+                alternativas.add(String.valueOf(candidatos.charAt(k)));
+            }
+            ambiguedades.add(new TraduccionInversa.Ambiguedad(texto.length() - 1, texto.length(), posicion,
+                    alternativas));
+        }
+    }
+
+    /**
+     * Verifica si un carácter es una celda que puede representar una letra.
+     *
+     * @param c El carácter a verificar.
+     * @return true si es una celda de letra.
+     */
+    private boolean esLetra(char c) {
+        int celda = c - PRIMERA_CELDA;
+        return celda >= 0 && celda < CELDAS && letras[celda] != 0;
+    }
+
+    /**
+     * Obtiene la letra (en minúscula) de una celda de letra.
+     *
+     * @param c La celda.
+     * @return La letra.
+     */
+    private char letra(char c) {
+        return letras[c - PRIMERA_CELDA];
+    }
+}
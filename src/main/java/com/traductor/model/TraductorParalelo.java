@@ -0,0 +1,177 @@
+package com.traductor.model;
+
+import com.traductor.metricas.Metricas;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Traductor que reparte los textos grandes entre varios hilos.
+ * El modo número y la detección de mayúsculas se reinician en cada espacio
+ * en blanco, así que el texto se corta justo antes de uno, cada fragmento se
+ * traduce en un {@link ForkJoinPool} y los resultados se concatenan. El
+ * resultado es idéntico al de {@link TraductorBraille#traducir(String)}.
+ * Cada traducción en paralelo se registra una vez en las {@link Metricas},
+ * como las secuenciales.
+ *
+ * @see TraductorBraille
+ */
+public class TraductorParalelo implements ITraductor {
+    /**
+     * Tamaño (en caracteres) a partir del cual se traduce en paralelo por defecto.
+     */
+    public static final int UMBRAL_POR_DEFECTO = 256 * 1024;
+
+    // Fragmentos por hilo disponible, para repartir mejor la carga
+    private static final int FRAGMENTOS_POR_HILO = 4;
+
+    private final TraductorBraille traductor;
+    private final int umbral;
+    private final ForkJoinPool pool;
+
+    /**
+     * Inicializa el traductor con el umbral por defecto y el pool común.
+     */
+    public TraductorParalelo() {
+        this(new TraductorBraille(), UMBRAL_POR_DEFECTO, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Inicializa el traductor con un umbral propio y el pool común.
+     *
+     * @param umbral Tamaño mínimo del texto para traducir en paralelo.
+     */
+    public TraductorParalelo(int umbral) {
+        this(new TraductorBraille(), umbral, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Inicializa el traductor.
+     *
+     * @param traductor El traductor secuencial a utilizar.
+     * @param umbral    Tamaño mínimo del texto para traducir en paralelo.
+     * @param pool      El pool en el que se traducen los fragmentos.
+     */
+    public TraductorParalelo(TraductorBraille traductor, int umbral, ForkJoinPool pool) {
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        this.traductor = traductor;
+        this.umbral = umbral;
+        this.pool = pool;
+    }
+
+    /**
+     * Traduce un texto a Braille; por debajo del umbral lo hace de forma secuencial.
+     *
+     * @param texto El texto a traducir.
+     * @return El texto traducido a Braille con símbolos Unicode.
+     */
+    @Override
+    public String traducir(String texto) {
+        if (texto == null || texto.length() < umbral || pool.getParallelism() < 2) {
+            return traductor.traducir(texto);
+        }
+
+        long inicio = Metricas.iniciar(texto.length());
+        int[] cortes = buscarCortes(texto, texto.length() / (pool.getParallelism() * FRAGMENTOS_POR_HILO));
+        String[] partes = new String[cortes.length - 1];
+        int[] sinTraducir = new int[partes.length];
+        pool.invoke(new TareaTraduccion(texto, cortes, partes, sinTraducir, 0, partes.length));
+
+        int total = 0;
+        long totalSinTraducir = 0;
+        for (int i = 0; i < partes.length; i++) {
+            total += partes[i].length();
+            totalSinTraducir += sinTraducir[i];
+        }
+        StringBuilder resultado = new StringBuilder(total);
+        for (String parte : partes) {
+            resultado.append(parte);
+        }
+        Metricas.registrarTraduccion(inicio, texto.length(), totalSinTraducir);
+        return resultado.toString();
+    }
+
+    /**
+     * Traduce un flujo de texto; la traducción por flujo es secuencial.
+     *
+     * @param entrada El lector con el texto a traducir.
+     * @param salida  El destino del texto traducido.
+     * @throws IOException Si ocurre un error al leer o escribir.
+     */
+    @Override
+    public void traducir(Reader entrada, Appendable salida) throws IOException {
+        traductor.traducir(entrada, salida);
+    }
+
+    /**
+     * Busca posiciones de corte seguras, cada una justo antes de un espacio
+     * en blanco, separadas al menos por el tamaño indicado.
+     *
+     * @param texto         El texto a cortar.
+     * @param tamanoMinimo  Tamaño mínimo de cada fragmento.
+     * @return Las posiciones de corte, incluidas 0 y la longitud del texto.
+     */
+    static int[] buscarCortes(String texto, int tamanoMinimo) {
+        List<Integer> cortes = new ArrayList<>();
+        cortes.add(0);
+        int posicion = Math.max(1, tamanoMinimo);
+        while (posicion < texto.length()) {
+            while (posicion < texto.length() && !Character.isWhitespace(texto.charAt(posicion))) {
+                posicion++;
+            }
+            if (posicion < texto.length()) {
+                cortes.add(posicion);
+            }
+            posicion += Math.max(1, tamanoMinimo);
+        }
+        cortes.add(texto.length());
+
+        int[] resultado = new int[cortes.size()];
+        for (int i = 0; i < resultado.length; i++) {
+            resultado[i] = cortes.get(i);
+        }
+        return resultado;
+    }
+
+    /**
+     * Tarea que traduce un rango de fragmentos dividiéndolo a la mitad.
+     */
+    private class TareaTraduccion extends RecursiveAction {
+        private final String texto;
+        private final int[] cortes;
+        private final String[] partes;
+        private final int[] sinTraducir;
+        private final int desde;
+        private final int hasta;
+
+        TareaTraduccion(String texto, int[] cortes, String[] partes, int[] sinTraducir, int desde, int hasta) {
+            this.texto = texto;
+            this.cortes = cortes;
+            this.partes = partes;
+            this.sinTraducir = sinTraducir;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                int inicio = cortes[desde];
+                int fin = cortes[desde + 1];
+                StringBuilder resultado = new StringBuilder(fin - inicio + ((fin - inicio) >> 2) + 16);
+                sinTraducir[desde] = traductor.traducirRango(texto, inicio, fin, resultado);
+                partes[desde] = resultado.toString();
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new TareaTraduccion(texto, cortes, partes, sinTraducir, desde, medio),
+                    new TareaTraduccion(texto, cortes, partes, sinTraducir, medio, hasta));
+        }
+    }
+}
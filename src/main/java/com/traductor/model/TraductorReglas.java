@@ -0,0 +1,260 @@
+package com.traductor.model;
+
+import java.util.Arrays;
+
+/**
+ * Traduce texto a Braille con una {@link TablaReglas} cargada desde un
+ * archivo, en lugar del diccionario fijo de {@link TraductorBraille}.
+ *
+ * <p>El texto se recorre una sola vez: en cada posición se aplica la regla
+ * más larga de la tabla, así que las reglas de varios caracteres
+ * (abreviaturas, secuencias de signos) tienen prioridad sobre las de un
+ * carácter. El modo número y los indicadores de mayúscula son las reglas
+ * de {@link EstadoTraduccion}, las mismas de {@link TraductorBraille}, con
+ * los indicadores de la tabla; cualquier dígito Unicode entra en modo número
+ * aunque la tabla no tenga regla para él. Una regla de varios caracteres se
+ * aplica entera: un dígito que cubre no entra en modo número, y solo su
+ * primera mayúscula decide el indicador, que se escribe delante de la
+ * regla. Con la tabla por defecto ambos traductores dan el mismo resultado,
+ * lo que comprueba la prueba {@code PruebaDiferencial} en cada
+ * {@code mvn test}. Es seguro para uso concurrente.</p>
+ *
+ * <p>Como en {@link TraductorBraille}, los acentos escritos como marca
+ * combinable se componen antes de traducir (ver {@link NormalizadorNFC}):
+ * las reglas de la tabla usan los caracteres precompuestos.</p>
+ *
+ * @see TablaReglas
+ * @see ITraductor
+ */
+public class TraductorReglas implements ITraductor {
+
+    private final TablaReglas tabla;
+
+    /**
+     * Inicializa el traductor con la tabla por defecto.
+     */
+    public TraductorReglas() {
+        this(TablaReglas.porDefecto());
+    }
+
+    /**
+     * Inicializa el traductor con una tabla de reglas.
+     *
+     * @param tabla La tabla de reglas a utilizar.
+     */
+    public TraductorReglas(TablaReglas tabla) {
+        this.tabla = tabla;
+    }
+
+    /**
+     * @return La tabla de reglas del traductor.
+     */
+    public TablaReglas getTabla() {
+        return tabla;
+    }
+
+    /**
+     * Traduce un texto a Braille aplicando la tabla de reglas.
+     *
+     * @param texto El texto a traducir.
+     * @return El texto traducido a Braille con símbolos Unicode.
+     */
+    @Override
+    public String traducir(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        // Sin marcas combinables devuelve el mismo texto, sin copiarlo
+        texto = NormalizadorNFC.componer(texto, 0, texto.length());
+
+        StringBuilder resultado = new StringBuilder(texto.length() + (texto.length() >> 2) + 16);
+        new Traduccion(tabla, texto, resultado).recorrer();
+        return resultado.toString();
+    }
+
+    /**
+     * Traducción de un texto con las reglas de {@link EstadoTraduccion} y
+     * las celdas de la tabla. {@link #recorrer()} divide el texto en tramos
+     * (una regla, un carácter sin regla o un carácter del modo número) y
+     * pasa cada carácter al estado. Como el estado retiene las mayúsculas
+     * del inicio de cada palabra, los caracteres llegan a
+     * {@link #agregarCaracter(char, boolean)} con retraso: las reglas de los
+     * tramos ya recorridos esperan en una cola.
+     */
+    private static final class Traduccion extends EstadoTraduccion {
+        // Tramo de un carácter del modo número, en lugar del índice de una regla
+        private static final int NUMERICO = -2;
+
+        private final TablaReglas tabla;
+        private final String texto;
+        private final StringBuilder salida;
+
+        // Reglas de los tramos recorridos y aún no escritos, en orden
+        private int[] cola = new int[16];
+        private int primero;
+        private int ultimo;
+
+        // Siguiente carácter a escribir y tramo que lo contiene
+        private int posicion;
+        private int inicioTramo;
+        private int finTramo;
+        private int reglaTramo;
+        // Posición de la última mayúscula escrita
+        private int ultimaMayuscula = -1;
+
+        Traduccion(TablaReglas tabla, String texto, StringBuilder salida) {
+            // Del diccionario solo se usarían los prefijos, que se reemplazan por los de la tabla
+            super(DiccionarioBraille.obtenerInstancia());
+            this.tabla = tabla;
+            this.texto = texto;
+            this.salida = salida;
+        }
+
+        /**
+         * Traduce el texto completo.
+         */
+        void recorrer() {
+            int n = texto.length();
+            // Fin del último tramo recorrido
+            int fin = 0;
+            for (int i = 0; i < n; i++) {
+                char caracter = texto.charAt(i);
+                byte clase;
+                if (i < fin) {
+                    clase = clasificarEnRegla(caracter);
+                } else if (tabla.esDigito(caracter) || Character.isDigit(caracter)) {
+                    // Los dígitos sin regla (por ejemplo los arábigos U+0660..U+0669)
+                    // también entran en modo número
+                    encolar(NUMERICO);
+                    fin = i + 1;
+                    clase = DIGITO;
+                } else if (enModoNumero && tabla.mantieneModoNumero(caracter)) {
+                    encolar(NUMERICO);
+                    fin = i + 1;
+                    clase = COMA_O_PUNTO;
+                } else {
+                    int regla = tabla.buscar(texto, 0, n, i);
+                    int longitud = regla >= 0 ? tabla.getLongitud(regla) : 1;
+                    clase = clasificarEnRegla(caracter);
+                    if (longitud == 1 && registrarSinPrefijo(clase)) {
+                        // Caso común, sin mayúsculas pendientes: una minúscula o un
+                        // signo, que no llevan prefijo y se escriben ya
+                        if (regla >= 0) {
+                            salida.append(tabla.getSalida(regla));
+                        } else {
+                            salida.append(caracter);
+                        }
+                        posicion = i + 1;
+                        finTramo = i + 1;
+                        fin = i + 1;
+                        continue;
+                    }
+                    encolar(regla);
+                    fin = i + longitud;
+                }
+                procesar(caracter, clase);
+            }
+            cerrarPalabra();
+        }
+
+        /**
+         * Clasifica un carácter que no es del modo número: los dígitos y
+         * signos que cubre una regla, o los signos fuera del modo número,
+         * salen de él como cualquier otro carácter.
+         *
+         * @param c El carácter.
+         * @return Su clase.
+         */
+        private static byte clasificarEnRegla(char c) {
+            byte clase = clasificar(c);
+            return clase == DIGITO || clase == COMA_O_PUNTO ? OTRO : clase;
+        }
+
+        /**
+         * Agrega la regla de un tramo recorrido a la cola.
+         *
+         * @param regla El índice de la regla, -1 si no hay o {@link #NUMERICO}.
+         */
+        private void encolar(int regla) {
+            if (ultimo == cola.length) {
+                cola = Arrays.copyOf(cola, cola.length * 2);
+            }
+            cola[ultimo++] = regla;
+        }
+
+        /**
+         * Escribe un carácter. Las reglas se escriben con su último
+         * carácter, detrás de los indicadores de todo el tramo; los
+         * caracteres sin regla se copian salvo las mayúsculas, que solo dejan
+         * su indicador, igual que en {@link TraductorBraille}.
+         */
+        @Override
+        void agregarCaracter(char c, boolean copiar) {
+            if (posicion >= finTramo) {
+                reglaTramo = cola[primero++];
+                if (primero == ultimo) {
+                    primero = 0;
+                    ultimo = 0;
+                }
+                inicioTramo = posicion;
+                finTramo = posicion + (reglaTramo >= 0 ? tabla.getLongitud(reglaTramo) : 1);
+            }
+            if (Character.isUpperCase(c)) {
+                ultimaMayuscula = posicion;
+            }
+            posicion++;
+            if (reglaTramo == NUMERICO) {
+                // Los dígitos sin celda no dejan nada; los signos del modo número se copian
+                String celdas = tabla.getCeldas(c);
+                if (celdas != null) {
+                    salida.append(celdas);
+                } else if (!tabla.esDigito(c) && !Character.isDigit(c)) {
+                    salida.append(c);
+                }
+            } else if (posicion == finTramo) {
+                if (reglaTramo >= 0) {
+                    salida.append(tabla.getSalida(reglaTramo));
+                } else if (copiar) {
+                    salida.append(c);
+                }
+            }
+        }
+
+        @Override
+        void escribirPrefijoNumero() {
+            salida.append(tabla.getIndicadorNumero());
+        }
+
+        @Override
+        void escribirPrefijoMayuscula() {
+            escribirIndicadorMayuscula(tabla.getIndicadorMayuscula());
+        }
+
+        @Override
+        void escribirPrefijoPalabraMayuscula() {
+            escribirIndicadorMayuscula(tabla.getIndicadorPalabraMayuscula());
+        }
+
+        /**
+         * Escribe un indicador de mayúscula delante del siguiente carácter,
+         * salvo si no es la primera mayúscula de su tramo.
+         *
+         * @param indicador Las celdas del indicador.
+         */
+        private void escribirIndicadorMayuscula(String indicador) {
+            if (posicion >= finTramo || ultimaMayuscula < inicioTramo) {
+                salida.append(indicador);
+            }
+        }
+
+        @Override
+        void escribirCelda(char celda) {
+            salida.append(celda);
+        }
+
+        @Override
+        void escribirCaracter(char c) {
+            salida.append(c);
+        }
+    }
+}
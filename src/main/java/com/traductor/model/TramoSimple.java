@@ -0,0 +1,133 @@
+package com.traductor.model;
+
+/**
+ * Traduce de una vez los tramos de texto que no dependen del estado de la
+ * traducción: minúsculas ASCII, espacios y signos de puntuación con celda.
+ * Ninguno de ellos lleva prefijo ni cambia la clasificación de la palabra
+ * en curso, así que cada uno se traduce a su celda sin más, y el traductor
+ * solo tiene que recorrer uno por uno los dígitos, las mayúsculas y los
+ * caracteres fuera de ASCII.
+ *
+ * <p>Esta clase recorre el tramo carácter a carácter con una tabla.
+ * {@link TramoSimpleVectorial} hace lo mismo con la Vector API cuando el
+ * módulo {@code jdk.incubator.vector} está disponible
+ * ({@code --add-modules jdk.incubator.vector}); la propiedad del sistema
+ * {@code traductor.vectorial=false} obliga a usar esta versión.</p>
+ *
+ * @see TraductorBraille
+ * @see TraduccionContinua
+ */
+class TramoSimple {
+    /**
+     * Número máximo de caracteres por llamada a {@link #traducir}.
+     */
+    static final int TAMANO_BLOQUE = 256;
+
+    // Todos los caracteres de un tramo simple son ASCII
+    static final int TAMANO_TABLA = 128;
+
+    // TABLA[c] = 0x40 | (celda - U+2800) para los caracteres de un tramo
+    // simple y 0 para el resto; la celda es BASE_CELDA + TABLA[c]
+    static final byte[] TABLA = compilarTabla(DiccionarioBraille.obtenerInstancia());
+    static final char BASE_CELDA = 0x2800 - 0x40;
+
+    /**
+     * Obtiene la implementación compartida: la vectorial si se puede usar,
+     * o esta en caso contrario.
+     *
+     * @return La instancia a usar.
+     */
+    static TramoSimple obtener() {
+        return Instancia.TRAMO;
+    }
+
+    /**
+     * Verifica si un carácter puede empezar un tramo simple. Solo lo hacen
+     * las minúsculas ASCII, tras las cuales nunca se está en modo número.
+     *
+     * @param c El carácter a verificar.
+     * @return true si es una letra de 'a' a 'z'.
+     */
+    static boolean esInicio(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Traduce el mayor prefijo posible de un rango formado solo por
+     * caracteres de un tramo simple.
+     *
+     * @param texto  Los caracteres.
+     * @param desde  Posición inicial (incluida).
+     * @param hasta  Posición final (excluida); como mucho
+     *               {@link #TAMANO_BLOQUE} caracteres después de {@code desde}.
+     * @param celdas Donde se escriben las celdas, desde la posición 0.
+     * @return Número de caracteres traducidos.
+     */
+    int traducir(char[] texto, int desde, int hasta, char[] celdas) {
+        return traducirEscalar(texto, desde, hasta, celdas, 0);
+    }
+
+    /**
+     * Traduce carácter a carácter el mayor prefijo posible de un rango.
+     *
+     * @param texto   Los caracteres.
+     * @param desde   Posición inicial (incluida).
+     * @param hasta   Posición final (excluida).
+     * @param celdas  Donde se escriben las celdas.
+     * @param destino Posición de {@code celdas} donde se escribe la primera.
+     * @return Número de caracteres traducidos.
+     */
+    static int traducirEscalar(char[] texto, int desde, int hasta, char[] celdas, int destino) {
+        for (int i = desde; i < hasta; i++) {
+            char c = texto[i];
+            byte celda = c < TAMANO_TABLA ? TABLA[c] : 0;
+            if (celda == 0) {
+                return i - desde;
+            }
+            celdas[destino + i - desde] = (char) (BASE_CELDA + celda);
+        }
+        return hasta - desde;
+    }
+
+    /**
+     * Construye la tabla de los caracteres de un tramo simple: los
+     * caracteres ASCII con celda que no son dígitos ni mayúsculas.
+     *
+     * @param diccionario El diccionario a utilizar.
+     * @return La tabla indexada por carácter.
+     */
+    private static byte[] compilarTabla(DiccionarioBraille diccionario) {
+        byte[] tabla = new byte[TAMANO_TABLA];
+        for (char c = 0; c < TAMANO_TABLA; c++) {
+            char celda = diccionario.obtenerCelda(c);
+            if (celda != DiccionarioBraille.SIN_CELDA && !Character.isUpperCase(c) && !diccionario.esNumero(c)) {
+                tabla[c] = (byte) (0x40 | (celda - 0x2800));
+            }
+        }
+        return tabla;
+    }
+
+    /**
+     * Elige la implementación a usar.
+     *
+     * @return La versión vectorial o, si no está disponible, la escalar.
+     */
+    private static TramoSimple crear() {
+        if (!"false".equals(System.getProperty("traductor.vectorial"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                if (TramoSimpleVectorial.esEficiente()) {
+                    return new TramoSimpleVectorial();
+                }
+            } catch (LinkageError e) {
+                // Módulo presente pero no utilizable: se sigue con la versión escalar
+            }
+        }
+        return new TramoSimple();
+    }
+
+    // Se elige la implementación una sola vez, en el primer uso
+    private static final class Instancia {
+        static final TramoSimple TRAMO = crear();
+    }
+}
@@ -0,0 +1,112 @@
+package com.traductor.model;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versión de {@link TramoSimple} con la Vector API: traduce 16 caracteres
+ * por iteración buscando cada uno en la tabla con una permutación de
+ * vectores en lugar de un acceso a memoria por carácter.
+ *
+ * <p>Los caracteres de un tramo simple están entre U+0020 y U+007F, así que
+ * la tabla se divide en las cuatro filas de 16 caracteres que los
+ * contienen (0x2_, 0x3_, 0x6_ y 0x7_): el nibble bajo de cada carácter
+ * elige la columna y el alto, la fila. Un carácter de cualquier otra fila o
+ * con valor 0 en la tabla termina el tramo. El resto que no llena un vector
+ * se traduce con la versión escalar, igual que los primeros caracteres de
+ * cada tramo: por debajo de unos 50 caracteres los vectores no compensan,
+ * y la mayoría de los tramos de un texto con acentos terminan antes.</p>
+ *
+ * <p>Solo se carga si el módulo {@code jdk.incubator.vector} está
+ * disponible; ver {@link TramoSimple#obtener()}.</p>
+ */
+final class TramoSimpleVectorial extends TramoSimple {
+    private static final VectorSpecies<Short> ESPECIE = ShortVector.SPECIES_256;
+
+    // Caracteres traducidos con la versión escalar antes de pasar a los
+    // vectores: en los tramos más cortos es más rápida
+    private static final int PRIMEROS_ESCALARES = 32;
+
+    private static final ShortVector FILA_2 = fila(0x20);
+    private static final ShortVector FILA_3 = fila(0x30);
+    private static final ShortVector FILA_6 = fila(0x60);
+    private static final ShortVector FILA_7 = fila(0x70);
+
+    /**
+     * Verifica si el procesador tiene vectores de al menos 256 bits; con
+     * vectores más cortos la Vector API los emula y es más lenta que la
+     * versión escalar.
+     *
+     * @return true si conviene usar esta versión.
+     */
+    static boolean esEficiente() {
+        return ShortVector.SPECIES_PREFERRED.vectorBitSize() >= ESPECIE.vectorBitSize();
+    }
+
+    @Override
+    int traducir(char[] texto, int desde, int hasta, char[] celdas) {
+        // La mayoría de los tramos terminan en pocos caracteres, así que los
+        // vectores empiezan tras los primeros. El bucle vectorial va aparte
+        // para que este método sea lo bastante corto como para integrarse en
+        // el traductor
+        int primeros = Math.min(hasta - desde, PRIMEROS_ESCALARES);
+        int traducidos = traducirEscalar(texto, desde, desde + primeros, celdas, 0);
+        if (traducidos < primeros || primeros == hasta - desde) {
+            return traducidos;
+        }
+        return primeros + traducirVectores(texto, desde + primeros, hasta, celdas, primeros);
+    }
+
+    /**
+     * Traduce el mayor prefijo posible de un rango de 16 en 16 caracteres.
+     *
+     * @param texto   Los caracteres.
+     * @param desde   Posición inicial (incluida).
+     * @param hasta   Posición final (excluida).
+     * @param celdas  Donde se escriben las celdas.
+     * @param destino Posición de {@code celdas} donde se escribe la primera.
+     * @return Número de caracteres traducidos.
+     */
+    private static int traducirVectores(char[] texto, int desde, int hasta, char[] celdas, int destino) {
+        int i = desde;
+        for (; i <= hasta - ESPECIE.length(); i += ESPECIE.length()) {
+            ShortVector caracteres = ShortVector.fromCharArray(ESPECIE, texto, i);
+            ShortVector columna = caracteres.and((short) 0x0F);
+            ShortVector fila = caracteres.lanewise(VectorOperators.LSHR, 4);
+
+            VectorMask<Short> enFila3 = fila.eq((short) 3);
+            VectorMask<Short> enFila6 = fila.eq((short) 6);
+            VectorMask<Short> enFila7 = fila.eq((short) 7);
+            ShortVector celda = columna.selectFrom(FILA_2)
+                    .blend(columna.selectFrom(FILA_3), enFila3)
+                    .blend(columna.selectFrom(FILA_6), enFila6)
+                    .blend(columna.selectFrom(FILA_7), enFila7);
+            VectorMask<Short> enTabla = fila.eq((short) 2).or(enFila3).or(enFila6).or(enFila7);
+            VectorMask<Short> fin = celda.eq((short) 0).or(enTabla.not());
+
+            // Se escriben las 16 celdas aunque el tramo termine antes: las
+            // posteriores al fin no se leen
+            celda.add((short) BASE_CELDA).intoCharArray(celdas, destino + i - desde);
+            if (fin.anyTrue()) {
+                return i - desde + fin.firstTrue();
+            }
+        }
+        return i - desde + traducirEscalar(texto, i, hasta, celdas, destino + i - desde);
+    }
+
+    /**
+     * Carga una fila de la tabla en un vector.
+     *
+     * @param inicio El primer carácter de la fila.
+     * @return Las 16 entradas de la fila.
+     */
+    private static ShortVector fila(int inicio) {
+        short[] entradas = new short[ESPECIE.length()];
+        for (int i = 0; i < entradas.length; i++) {
+            entradas[i] = TABLA[inicio + i];
+        }
+        return ShortVector.fromArray(ESPECIE, entradas, 0);
+    }
+}
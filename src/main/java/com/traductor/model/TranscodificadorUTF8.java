@@ -0,0 +1,370 @@
+package com.traductor.model;
+
+import com.traductor.metricas.Metricas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Traduce un archivo de texto UTF-8 a un archivo Braille UTF-8 trabajando
+ * directamente sobre los bytes, sin pasar el texto por un {@link String}.
+ *
+ * <p>La entrada se proyecta en memoria con {@link FileChannel#map} y se
+ * recorre por bloques. Los bloques que solo tienen caracteres anteriores a
+ * U+0300 (ASCII, Latin-1 y Latin extendido, de uno o dos bytes) se
+ * decodifican byte a byte dentro del bucle de traducción. Solo los bloques
+ * con otros caracteres se decodifican a caracteres y se componen en forma
+ * NFC, como en {@link TraductorBraille}. Cada celda Braille ocupa siempre
+ * tres bytes (E2 A0 80 a E2 A3 BF) y se escribe en un buffer directo que se
+ * vuelca al archivo de salida al llenarse.</p>
+ *
+ * <p>El modo número y las palabras en mayúsculas siguen las reglas de
+ * {@link EstadoTraduccion}, las mismas que {@link TraduccionContinua}, así
+ * que el resultado es idéntico al de
+ * {@link TraductorBraille#traducir(String)}. Los bloques se cortan delante de
+ * un carácter ASCII, de modo que una letra no se separa de sus marcas
+ * combinables. Una entrada que no es UTF-8 válido produce
+ * {@link MalformedInputException}, igual que al leerla con un lector.</p>
+ *
+ * <p>Las tablas son inmutables y cada llamada usa su propio estado, así que
+ * una misma instancia se puede usar desde varios hilos.</p>
+ *
+ * @see TraductorBraille
+ */
+public final class TranscodificadorUTF8 {
+    // Bytes de entrada proyectados a la vez (los archivos mayores se recorren por ventanas)
+    private static final long TAMANO_VENTANA = 64L * 1024 * 1024;
+    // Bytes de entrada traducidos por bloque
+    private static final int TAMANO_BLOQUE = 64 * 1024;
+    // Bytes del buffer de salida
+    private static final int TAMANO_SALIDA = 256 * 1024;
+
+    // Primer byte inicial de un carácter a partir de U+0300
+    private static final int PRIMER_BYTE_NO_LATINO = 0xCC;
+
+    // Los caracteres de las tablas son los de uno y dos bytes en UTF-8 por debajo de U+0300
+    private static final int TAMANO_TABLA = NormalizadorNFC.LIMITE;
+
+    private final DiccionarioBraille diccionario;
+    private final byte[] clases = new byte[TAMANO_TABLA];
+    private final char[] celdas = new char[TAMANO_TABLA];
+
+    /**
+     * Inicializa el transcodificador con el diccionario por defecto.
+     */
+    public TranscodificadorUTF8() {
+        this(DiccionarioBraille.obtenerInstancia());
+    }
+
+    /**
+     * Inicializa el transcodificador a partir de un diccionario.
+     *
+     * @param diccionario El diccionario a utilizar.
+     */
+    public TranscodificadorUTF8(DiccionarioBraille diccionario) {
+        this.diccionario = diccionario;
+        for (char c = 0; c < TAMANO_TABLA; c++) {
+            clases[c] = EstadoTraduccion.clasificar(c);
+            celdas[c] = diccionario.obtenerCelda(c);
+        }
+    }
+
+    /**
+     * Traduce un archivo UTF-8 y escribe el Braille en otro, también en UTF-8.
+     * Si el archivo de salida existe, se reemplaza.
+     *
+     * @param entrada El archivo de texto a traducir.
+     * @param salida  El archivo donde se escribe la traducción.
+     * @return Número de caracteres traducidos.
+     * @throws IOException Si ocurre un error al leer o escribir, o
+     *                     {@link MalformedInputException} si la entrada no es UTF-8 válido.
+     */
+    public long transcodificar(Path entrada, Path salida) throws IOException {
+        long inicio = Metricas.iniciar(-1);
+        try (FileChannel canalEntrada = FileChannel.open(entrada, StandardOpenOption.READ);
+             FileChannel canalSalida = FileChannel.open(salida, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Transcodificacion estado = new Transcodificacion(canalSalida);
+            long total = canalEntrada.size();
+            long posicion = 0;
+            long inicioVentana = 0;
+            MappedByteBuffer ventana = null;
+
+            while (posicion < total) {
+                long finVentana = ventana != null ? inicioVentana + ventana.capacity() : 0;
+                if (ventana == null || (posicion + TAMANO_BLOQUE > finVentana && finVentana < total)) {
+                    inicioVentana = posicion;
+                    ventana = canalEntrada.map(FileChannel.MapMode.READ_ONLY, posicion,
+                            Math.min(TAMANO_VENTANA, total - posicion));
+                }
+                int desde = (int) (posicion - inicioVentana);
+                int hasta = Math.min(desde + TAMANO_BLOQUE, ventana.capacity());
+                if (inicioVentana + hasta < total) {
+                    hasta = buscarCorte(ventana, desde, hasta);
+                }
+                estado.procesarBloque(ventana, desde, hasta - desde);
+                posicion = inicioVentana + hasta;
+            }
+
+            estado.finalizar();
+            Metricas.registrarTraduccion(inicio, estado.caracteres, estado.getSinTraducir());
+            return estado.caracteres;
+        } catch (UncheckedIOException e) {
+            // Fallo al volcar la salida desde las reglas de EstadoTraduccion
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Busca dónde cortar un bloque: delante del último byte ASCII, que
+     * nunca forma parte de un carácter de varios bytes ni se combina con el
+     * anterior. Si el bloque no tiene ninguno, delante del último byte
+     * inicial de un carácter.
+     *
+     * @param bytes Los bytes de entrada.
+     * @param desde Inicio del bloque.
+     * @param hasta Fin máximo del bloque.
+     * @return El fin del bloque.
+     */
+    private static int buscarCorte(ByteBuffer bytes, int desde, int hasta) {
+        for (int i = hasta - 1; i > desde; i--) {
+            if (bytes.get(i) >= 0) {
+                return i;
+            }
+        }
+        for (int i = hasta - 1; i > desde; i--) {
+            if ((bytes.get(i) & 0xC0) != 0x80) {
+                return i;
+            }
+        }
+        return hasta;
+    }
+
+    /**
+     * Estado de la traducción de un archivo: el de {@link EstadoTraduccion}
+     * más el buffer de salida.
+     */
+    private final class Transcodificacion extends EstadoTraduccion {
+        private final FileChannel canal;
+        // El bloque en curso se copia de la proyección a un arreglo y la
+        // salida se acumula en otro, que se vuelca entero al buffer directo:
+        // el acceso por índice a un arreglo es mucho más barato que a un ByteBuffer
+        private final byte[] bloque = new byte[TAMANO_BLOQUE];
+        private final byte[] salida = new byte[TAMANO_SALIDA];
+        private final ByteBuffer salidaDirecta = ByteBuffer.allocateDirect(TAMANO_SALIDA);
+        // Bytes ocupados del arreglo de salida
+        private int ocupados;
+        private final CharsetDecoder decodificador = StandardCharsets.UTF_8.newDecoder();
+
+        // Mitad alta de un par sustituto copiado sin traducir, a la espera de la baja
+        private char sustitutoAlto;
+
+        private long caracteres;
+
+        Transcodificacion(FileChannel canal) {
+            super(TranscodificadorUTF8.this.diccionario);
+            this.canal = canal;
+        }
+
+        /**
+         * Traduce un bloque de bytes que empieza y termina en un límite de carácter.
+         *
+         * @param entrada La proyección del archivo de entrada.
+         * @param desde   Inicio del bloque en la proyección.
+         * @param largo   Número de bytes del bloque (como mucho {@link #TAMANO_BLOQUE}).
+         * @throws IOException Si la entrada no es UTF-8 válido.
+         */
+        void procesarBloque(ByteBuffer entrada, int desde, int largo) throws IOException {
+            byte[] bytes = bloque;
+            entrada.get(desde, bytes, 0, largo);
+            for (int i = 0; i < largo; i++) {
+                if ((bytes[i] & 0xFF) >= PRIMER_BYTE_NO_LATINO) {
+                    procesarCaracteres(bytes, largo);
+                    return;
+                }
+            }
+
+            // Solo caracteres de uno o dos bytes: se decodifican aquí mismo
+            byte[] salida = this.salida;
+            int ocupados = this.ocupados;
+            int i = 0;
+            while (i < largo) {
+                int b = bytes[i];
+                char c;
+                if (b >= 0) {
+                    c = (char) b;
+                    i++;
+                } else {
+                    int b1 = i + 1 < largo ? bytes[i + 1] : 0;
+                    if ((b & 0xE0) != 0xC0 || (b & 0xFF) < 0xC2 || (b1 & 0xC0) != 0x80) {
+                        throw new MalformedInputException(1);
+                    }
+                    c = (char) (((b & 0x1F) << 6) | (b1 & 0x3F));
+                    i += 2;
+                }
+
+                // Caso común, sin mayúsculas pendientes: una minúscula o un
+                // signo con celda propia, que no llevan prefijo
+                char celda = celdas[c];
+                if (celda != DiccionarioBraille.SIN_CELDA && registrarSinPrefijo(clases[c])) {
+                    if (ocupados > TAMANO_SALIDA - 3) {
+                        this.ocupados = ocupados;
+                        vaciar();
+                        ocupados = 0;
+                    }
+                    int puntos = celda - SimboloBraille.PRIMERA_CELDA;
+                    salida[ocupados] = (byte) 0xE2;
+                    salida[ocupados + 1] = (byte) (0xA0 | (puntos >> 6));
+                    salida[ocupados + 2] = (byte) (0x80 | (puntos & 0x3F));
+                    ocupados += 3;
+                    caracteres++;
+                } else {
+                    this.ocupados = ocupados;
+                    procesarCaracter(c);
+                    ocupados = this.ocupados;
+                }
+            }
+            this.ocupados = ocupados;
+        }
+
+        /**
+         * Traduce un bloque con caracteres a partir de U+0300: lo decodifica
+         * y compone sus marcas combinables antes de traducirlo.
+         *
+         * @param bytes Los bytes del bloque.
+         * @param largo Número de bytes del bloque.
+         * @throws IOException Si la entrada no es UTF-8 válido.
+         */
+        private void procesarCaracteres(byte[] bytes, int largo) throws IOException {
+            CharBuffer texto = decodificador.reset().decode(ByteBuffer.wrap(bytes, 0, largo));
+            String compuesto = NormalizadorNFC.componer(texto, 0, texto.length());
+            for (int i = 0; i < compuesto.length(); i++) {
+                procesarCaracter(compuesto.charAt(i));
+            }
+        }
+
+        /**
+         * Traduce un carácter, clasificándolo con la tabla si está en ella.
+         *
+         * @param c El carácter.
+         */
+        private void procesarCaracter(char c) {
+            caracteres++;
+            procesar(c, c < TAMANO_TABLA ? clases[c] : clasificar(c));
+        }
+
+        /**
+         * Emite lo pendiente y vuelca el buffer al archivo.
+         */
+        void finalizar() {
+            cerrarPalabra();
+            if (sustitutoAlto != 0) {
+                sustitutoAlto = 0;
+                escribirCaracter('?');
+            }
+            vaciar();
+        }
+
+        @Override
+        char obtenerCelda(char c) {
+            return c < TAMANO_TABLA ? celdas[c] : diccionario.obtenerCelda(c);
+        }
+
+        /**
+         * Escribe una celda Braille (U+2800 a U+28FF) en UTF-8.
+         *
+         * @param celda La celda.
+         */
+        @Override
+        void escribirCelda(char celda) {
+            if (ocupados > TAMANO_SALIDA - 3) {
+                vaciar();
+            }
+            int puntos = celda - SimboloBraille.PRIMERA_CELDA;
+            salida[ocupados] = (byte) 0xE2;
+            salida[ocupados + 1] = (byte) (0xA0 | (puntos >> 6));
+            salida[ocupados + 2] = (byte) (0x80 | (puntos & 0x3F));
+            ocupados += 3;
+        }
+
+        /**
+         * Escribe un carácter sin traducir en UTF-8. Las dos mitades de un
+         * par sustituto llegan por separado y se escriben juntas.
+         *
+         * @param c El carácter.
+         */
+        @Override
+        void escribirCaracter(char c) {
+            if (ocupados > TAMANO_SALIDA - 4) {
+                vaciar();
+            }
+            if (sustitutoAlto != 0) {
+                char alto = sustitutoAlto;
+                sustitutoAlto = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int punto = Character.toCodePoint(alto, c);
+                    escribirByte((byte) (0xF0 | (punto >> 18)));
+                    escribirByte((byte) (0x80 | ((punto >> 12) & 0x3F)));
+                    escribirByte((byte) (0x80 | ((punto >> 6) & 0x3F)));
+                    escribirByte((byte) (0x80 | (punto & 0x3F)));
+                    return;
+                }
+                // Sustituto suelto: no llega desde UTF-8 válido
+                escribirByte((byte) '?');
+            }
+            if (c < 0x80) {
+                escribirByte((byte) c);
+            } else if (c < 0x800) {
+                escribirByte((byte) (0xC0 | (c >> 6)));
+                escribirByte((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                sustitutoAlto = c;
+            } else if (Character.isLowSurrogate(c)) {
+                escribirByte((byte) '?');
+            } else {
+                escribirByte((byte) (0xE0 | (c >> 12)));
+                escribirByte((byte) (0x80 | ((c >> 6) & 0x3F)));
+                escribirByte((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        /**
+         * Vuelca al archivo, a través del buffer directo, los bytes de salida acumulados.
+         * Se llama desde las reglas de {@link EstadoTraduccion}, que no
+         * declaran excepciones, así que los fallos salen como
+         * {@link UncheckedIOException} y {@link #transcodificar} los desenvuelve.
+         *
+         * @throws UncheckedIOException Si falla la escritura.
+         */
+        private void vaciar() {
+            salidaDirecta.clear();
+            salidaDirecta.put(salida, 0, ocupados).flip();
+            try {
+                while (salidaDirecta.hasRemaining()) {
+                    canal.write(salidaDirecta);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ocupados = 0;
+        }
+
+        /**
+         * Agrega un byte a la salida, que debe tener sitio.
+         *
+         * @param b El byte.
+         */
+        private void escribirByte(byte b) {
+            salida[ocupados++] = b;
+        }
+    }
+}
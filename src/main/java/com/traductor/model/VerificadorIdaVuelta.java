@@ -0,0 +1,262 @@
+package com.traductor.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Verifica textos por ida y vuelta: traduce cada texto a Braille, lo
+ * devuelve a texto con {@link TraductorInverso} y comprueba que el original
+ * sea una de las lecturas posibles. Sirve para revisar en bloque la
+ * señalética antes de producirla.
+ *
+ * <p>Cada texto termina en una de tres categorías: exacto (una sola
+ * lectura, igual al original), ambiguo (el original es una de varias
+ * lecturas, por ejemplo "¿" y "?") o discrepancia (la traducción perdió
+ * información y el original no se puede recuperar).</p>
+ *
+ * @see TraductorInverso
+ */
+public class VerificadorIdaVuelta {
+    /**
+     * Número máximo por defecto de discrepancias guardadas en el informe.
+     */
+    public static final int MAX_DISCREPANCIAS_POR_DEFECTO = 100;
+
+    private final ITraductor traductor;
+    private final TraductorInverso inverso;
+    private final int maxDiscrepancias;
+
+    /**
+     * Inicializa el verificador con los traductores por defecto.
+     */
+    public VerificadorIdaVuelta() {
+        this(new TraductorBraille(), new TraductorInverso(), MAX_DISCREPANCIAS_POR_DEFECTO);
+    }
+
+    /**
+     * Inicializa el verificador.
+     *
+     * @param traductor        El traductor de texto a Braille.
+     * @param inverso          El traductor de Braille a texto.
+     * @param maxDiscrepancias Número máximo de discrepancias guardadas (todas se cuentan).
+     */
+    public VerificadorIdaVuelta(ITraductor traductor, TraductorInverso inverso, int maxDiscrepancias) {
+        this.traductor = traductor;
+        this.inverso = inverso;
+        this.maxDiscrepancias = maxDiscrepancias;
+    }
+
+    /**
+     * Verifica un texto.
+     *
+     * @param texto El texto original.
+     * @return La discrepancia encontrada, o null si el texto se recupera.
+     */
+    public Discrepancia verificar(String texto) {
+        String braille = traductor.traducir(texto);
+        TraduccionInversa lectura = inverso.traducir(braille);
+        return lectura.admite(texto) ? null : new Discrepancia(texto, braille, lectura);
+    }
+
+    /**
+     * Verifica una colección de textos, en paralelo si tiene muchos.
+     *
+     * @param textos Los textos a verificar.
+     * @return El informe de la verificación.
+     */
+    public Informe verificar(Collection<String> textos) {
+        Stream<String> flujo = textos.size() > 10_000 ? textos.parallelStream() : textos.stream();
+        return verificar(flujo);
+    }
+
+    /**
+     * Verifica los textos de un flujo, que puede ser paralelo.
+     *
+     * @param textos Los textos a verificar.
+     * @return El informe de la verificación.
+     */
+    public Informe verificar(Stream<String> textos) {
+        return textos.collect(() -> new Informe(maxDiscrepancias), this::acumular, Informe::combinar);
+    }
+
+    /**
+     * Verifica un texto y lo suma al informe.
+     *
+     * @param informe El informe parcial.
+     * @param texto   El texto original.
+     */
+    private void acumular(Informe informe, String texto) {
+        String braille = traductor.traducir(texto);
+        TraduccionInversa lectura = inverso.traducir(braille);
+        informe.total++;
+        if (!lectura.admite(texto)) {
+            informe.agregarDiscrepancia(new Discrepancia(texto, braille, lectura));
+        } else if (lectura.esAmbigua()) {
+            informe.ambiguos++;
+        } else {
+            informe.exactos++;
+        }
+    }
+
+    /**
+     * Texto que no se recupera al volver de Braille.
+     */
+    public static final class Discrepancia {
+        private final String original;
+        private final String braille;
+        private final TraduccionInversa lectura;
+
+        Discrepancia(String original, String braille, TraduccionInversa lectura) {
+            this.original = original;
+            this.braille = braille;
+            this.lectura = lectura;
+        }
+
+        /**
+         * @return El texto original.
+         */
+        public String getOriginal() {
+            return original;
+        }
+
+        /**
+         * @return Su traducción a Braille.
+         */
+        public String getBraille() {
+            return braille;
+        }
+
+        /**
+         * @return Lo recuperado del Braille.
+         */
+        public TraduccionInversa getLectura() {
+            return lectura;
+        }
+
+        @Override
+        public String toString() {
+            return "\"" + original + "\" -> " + braille + " -> \"" + lectura.getTexto() + "\"";
+        }
+    }
+
+    /**
+     * Resultado de verificar un conjunto de textos.
+     */
+    public static final class Informe {
+        private final int maxDiscrepancias;
+        private final List<Discrepancia> discrepancias = new ArrayList<>();
+        private long total;
+        private long exactos;
+        private long ambiguos;
+        private long totalDiscrepancias;
+
+        Informe(int maxDiscrepancias) {
+            this.maxDiscrepancias = maxDiscrepancias;
+        }
+
+        private void agregarDiscrepancia(Discrepancia discrepancia) {
+            totalDiscrepancias++;
+            if (discrepancias.size() < maxDiscrepancias) {
+                discrepancias.add(discrepancia);
+            }
+        }
+
+        private void combinar(Informe otro) {
+            total += otro.total;
+            exactos += otro.exactos;
+            ambiguos += otro.ambiguos;
+            totalDiscrepancias += otro.totalDiscrepancias;
+            for (Discrepancia discrepancia : otro.discrepancias) {
+                if (discrepancias.size() == maxDiscrepancias) {
+                    break;
+                }
+                discrepancias.add(discrepancia);
+            }
+        }
+
+        /**
+         * @return Número de textos verificados.
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * @return Textos con una sola lectura, igual al original.
+         */
+        public long getExactos() {
+            return exactos;
+        }
+
+        /**
+         * @return Textos cuyo original es una de varias lecturas posibles.
+         */
+        public long getAmbiguos() {
+            return ambiguos;
+        }
+
+        /**
+         * @return Textos que no se recuperan.
+         */
+        public long getTotalDiscrepancias() {
+            return totalDiscrepancias;
+        }
+
+        /**
+         * @return Las primeras discrepancias encontradas.
+         */
+        public List<Discrepancia> getDiscrepancias() {
+            return Collections.unmodifiableList(discrepancias);
+        }
+
+        /**
+         * @return true si todos los textos se recuperan.
+         */
+        public boolean esCorrecto() {
+            return totalDiscrepancias == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Textos: %d, exactos: %d, ambiguos: %d, discrepancias: %d",
+                    total, exactos, ambiguos, totalDiscrepancias);
+        }
+    }
+
+    /**
+     * Verifica cada línea de los archivos indicados e imprime el informe.
+     *
+     * @param args Archivos de texto UTF-8 con un texto por línea.
+     * @throws IOException Si no se puede leer algún archivo.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: java -cp traductor-braille.jar com.traductor.model.VerificadorIdaVuelta <archivo>...");
+            System.exit(2);
+            return;
+        }
+        VerificadorIdaVuelta verificador = new VerificadorIdaVuelta();
+        Informe informe = new Informe(MAX_DISCREPANCIAS_POR_DEFECTO);
+        long inicio = System.nanoTime();
+        for (String archivo : args) {
+            try (BufferedReader lector = Files.newBufferedReader(Paths.get(archivo), StandardCharsets.UTF_8)) {
+                informe.combinar(verificador.verificar(lector.lines().parallel()));
+            }
+        }
+        double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 1e-9);
+        System.out.println(informe);
+        System.out.printf("%.0f textos/s%n", informe.getTotal() / segundos);
+        for (Discrepancia discrepancia : informe.getDiscrepancias()) {
+            System.out.println(discrepancia);
+        }
+        System.exit(informe.esCorrecto() ? 0 : 1);
+    }
+}
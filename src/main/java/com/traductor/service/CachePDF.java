@@ -0,0 +1,475 @@
+package com.traductor.service;
+
+import com.traductor.service.GeneradorPDF.ModoRenderizado;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché en disco de los PDF generados por {@link GeneradorPDF}. Pensada
+ * para señalética, donde los mismos carteles se exportan una y otra vez:
+ * un acierto no carga fuentes ni compone nada, solo copia el archivo
+ * guardado al destino con {@link FileChannel#transferTo}, que el sistema
+ * operativo resuelve sin pasar los bytes por la JVM.
+ *
+ * <p>Cada PDF se guarda en el directorio como {@code <clave>.pdf}, donde la
+ * clave es el SHA-256 del texto original, el texto Braille y la
+ * configuración de {@link GeneradorPDF#describirConfiguracion}. Los PDF se
+ * generan en un archivo temporal del mismo directorio y se mueven a su
+ * nombre final de forma atómica, así que nunca se lee un PDF a medio
+ * escribir, ni aunque el proceso muera. El directorio se limita en bytes y
+ * se desalojan primero los PDF usados hace más tiempo; el orden de uso se
+ * guarda en la fecha de modificación de cada archivo y sobrevive a los
+ * reinicios.</p>
+ *
+ * <p>Si la configuración cambia entre una ejecución y otra (otra fuente,
+ * otras medidas, otra versión de iText), la caché se vacía al abrirla;
+ * {@link #invalidar()} la vacía en cualquier momento. Los PDF guardados
+ * conservan la fecha de creación de su primera generación. Es segura para
+ * uso concurrente dentro de una JVM, aunque dos hilos pueden generar a la
+ * vez el mismo PDF si ninguno lo encuentra; dos procesos no deben compartir
+ * el directorio.</p>
+ *
+ * @see GeneradorPDF
+ */
+public final class CachePDF {
+    /**
+     * Tamaño máximo por defecto del directorio, en bytes.
+     */
+    public static final long TAMANO_MAXIMO_POR_DEFECTO = 256L * 1024 * 1024;
+
+    private static final String EXTENSION = ".pdf";
+    private static final String EXTENSION_TEMPORAL = ".tmp";
+    private static final String ARCHIVO_CONFIGURACION = "configuracion.txt";
+    // SHA-256 en hexadecimal
+    private static final int LONGITUD_CLAVE = 64;
+
+    private final Path directorio;
+    private final long tamanoMaximo;
+    private final Map<ModoRenderizado, String> configuraciones = new EnumMap<>(ModoRenderizado.class);
+
+    // Orden de acceso: la primera entrada es la menos usada recientemente.
+    // El valor es el tamaño del archivo en bytes
+    private final LinkedHashMap<String, Long> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long tamano;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+
+    /**
+     * Abre la caché con el tamaño máximo por defecto.
+     *
+     * @param directorio El directorio de la caché; se crea si no existe.
+     * @throws IOException Si no se puede crear o leer el directorio.
+     */
+    public CachePDF(Path directorio) throws IOException {
+        this(directorio, TAMANO_MAXIMO_POR_DEFECTO);
+    }
+
+    /**
+     * Abre la caché, recuperando los PDF guardados por ejecuciones anteriores
+     * si se generaron con la misma configuración.
+     *
+     * @param directorio   El directorio de la caché; se crea si no existe.
+     * @param tamanoMaximo Tamaño máximo del directorio, en bytes.
+     * @throws IOException Si no se puede crear o leer el directorio.
+     */
+    public CachePDF(Path directorio, long tamanoMaximo) throws IOException {
+        if (tamanoMaximo < 1) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo");
+        }
+        this.directorio = Files.createDirectories(directorio);
+        this.tamanoMaximo = tamanoMaximo;
+
+        StringBuilder configuracion = new StringBuilder();
+        for (ModoRenderizado modo : ModoRenderizado.values()) {
+            String descripcion = GeneradorPDF.describirConfiguracion(modo);
+            configuraciones.put(modo, descripcion);
+            configuracion.append(descripcion).append('\n');
+        }
+
+        Path archivoConfiguracion = directorio.resolve(ARCHIVO_CONFIGURACION);
+        if (Files.isRegularFile(archivoConfiguracion)
+                && Files.readString(archivoConfiguracion, StandardCharsets.UTF_8).contentEquals(configuracion)) {
+            cargarEntradas();
+        } else {
+            borrarArchivos(true);
+            escribirAtomico(archivoConfiguracion, configuracion.toString());
+        }
+    }
+
+    /**
+     * Genera un PDF con el texto original y su traducción a Braille, o lo
+     * copia de la caché si ya se generó antes con los mismos textos y la
+     * misma configuración.
+     *
+     * @param textoOriginal El texto original en español
+     * @param textoBraille  El texto traducido a símbolos Braille
+     * @param rutaDestino   La ruta donde se guardará el archivo PDF
+     * @param modo          La forma de dibujar el Braille
+     * @return true si el PDF salió de la caché.
+     * @throws IOException Si ocurre un error al generar, guardar o copiar el archivo
+     */
+    public boolean generarPDF(String textoOriginal, String textoBraille, String rutaDestino,
+                              ModoRenderizado modo) throws IOException {
+        String clave = calcularClave(configuraciones.get(modo), textoOriginal, textoBraille);
+        Path guardado = directorio.resolve(clave + EXTENSION);
+        Path destino = Paths.get(rutaDestino);
+
+        if (usar(clave)) {
+            // Solo la ausencia del PDF guardado invalida la entrada; los errores
+            // del destino (por ejemplo, una carpeta que no existe) se propagan
+            FileChannel entrada = abrirGuardado(guardado);
+            if (entrada != null) {
+                try (entrada) {
+                    copiar(entrada, destino);
+                }
+                aciertos.increment();
+                return true;
+            }
+            // Borrado desde fuera o desalojado por otro hilo: se genera de nuevo
+            olvidar(clave);
+        }
+
+        fallos.increment();
+        Path temporal = Files.createTempFile(directorio, clave, EXTENSION_TEMPORAL);
+        try {
+            GeneradorPDF.generarPDF(textoOriginal, textoBraille, temporal.toString(), modo);
+            // Se copia desde el temporal, que ningún otro hilo puede desalojar
+            copiar(temporal, destino);
+            long bytes = Files.size(temporal);
+            Files.move(temporal, guardado, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            guardar(clave, bytes);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+        return false;
+    }
+
+    /**
+     * Genera un PDF en modo {@link ModoRenderizado#FUENTE}, o lo copia de la
+     * caché.
+     *
+     * @param textoOriginal El texto original en español
+     * @param textoBraille  El texto traducido a símbolos Braille
+     * @param rutaDestino   La ruta donde se guardará el archivo PDF
+     * @return true si el PDF salió de la caché.
+     * @throws IOException Si ocurre un error al generar, guardar o copiar el archivo
+     */
+    public boolean generarPDF(String textoOriginal, String textoBraille, String rutaDestino) throws IOException {
+        return generarPDF(textoOriginal, textoBraille, rutaDestino, ModoRenderizado.FUENTE);
+    }
+
+    /**
+     * Borra todos los PDF guardados sin reiniciar los contadores. Hace falta
+     * si cambia algo que la configuración no recoge, por ejemplo el
+     * contenido de una fuente que se sustituye conservando su tamaño y fecha.
+     *
+     * @throws IOException Si no se puede recorrer el directorio.
+     */
+    public synchronized void invalidar() throws IOException {
+        // Los temporales pueden ser de PDF que otro hilo está generando
+        borrarArchivos(false);
+    }
+
+    /**
+     * @return Número de PDF copiados de la caché.
+     */
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    /**
+     * @return Número de PDF que no estaban en la caché y se generaron.
+     */
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    /**
+     * @return Número de PDF desalojados por falta de espacio.
+     */
+    public long getDesalojos() {
+        return desalojos.sum();
+    }
+
+    /**
+     * @return Proporción de PDF que salieron de la caché, entre 0 y 1.
+     */
+    public double getTasaAciertos() {
+        long exitos = aciertos.sum();
+        long total = exitos + fallos.sum();
+        return total == 0 ? 0.0 : (double) exitos / total;
+    }
+
+    /**
+     * @return Número de PDF guardados actualmente.
+     */
+    public synchronized int getEntradas() {
+        return entradas.size();
+    }
+
+    /**
+     * @return Tamaño total de los PDF guardados, en bytes.
+     */
+    public synchronized long getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Calcula la clave de un PDF.
+     *
+     * @param configuracion La descripción de la configuración del modo.
+     * @param textoOriginal El texto original.
+     * @param textoBraille  El texto Braille.
+     * @return El SHA-256 en hexadecimal.
+     */
+    private static String calcularClave(String configuracion, String textoOriginal, String textoBraille) {
+        MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todas las JVM deben incluir SHA-256
+            throw new IllegalStateException(e);
+        }
+        agregarAlResumen(sha, configuracion);
+        agregarAlResumen(sha, textoOriginal);
+        agregarAlResumen(sha, textoBraille);
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * Agrega un texto al resumen precedido de su longitud, para que los
+     * límites entre los textos no sean ambiguos.
+     *
+     * @param sha   El resumen en curso.
+     * @param texto El texto a agregar.
+     */
+    private static void agregarAlResumen(MessageDigest sha, String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        sha.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        sha.update(bytes);
+    }
+
+    /**
+     * Abre un PDF guardado para leerlo y lo marca como el más reciente.
+     *
+     * @param guardado El archivo del PDF en la caché.
+     * @return El canal abierto, o null si el archivo ya no existe.
+     * @throws IOException Si ocurre cualquier otro error de E/S.
+     */
+    private static FileChannel abrirGuardado(Path guardado) throws IOException {
+        try {
+            Files.setLastModifiedTime(guardado, FileTime.fromMillis(System.currentTimeMillis()));
+            // Una vez abierto, el archivo se puede desalojar sin afectar a la copia
+            return FileChannel.open(guardado, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copia un archivo completo con {@link FileChannel#transferTo}.
+     *
+     * @param origen  El archivo a copiar.
+     * @param destino El archivo de destino, que se crea o se sobrescribe.
+     * @throws IOException Si ocurre un error de E/S, incluido
+     *                     {@link NoSuchFileException} si no existe el origen o
+     *                     la carpeta del destino.
+     */
+    private static void copiar(Path origen, Path destino) throws IOException {
+        try (FileChannel entrada = FileChannel.open(origen, StandardOpenOption.READ)) {
+            copiar(entrada, destino);
+        }
+    }
+
+    /**
+     * Copia el contenido completo de un canal con {@link FileChannel#transferTo}.
+     *
+     * @param entrada El canal del archivo a copiar; no se cierra.
+     * @param destino El archivo de destino, que se crea o se sobrescribe.
+     * @throws IOException Si ocurre un error de E/S, incluido
+     *                     {@link NoSuchFileException} si no existe la carpeta
+     *                     del destino.
+     */
+    private static void copiar(FileChannel entrada, Path destino) throws IOException {
+        try (FileChannel salida = FileChannel.open(destino, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long total = entrada.size();
+            long copiados = 0;
+            // transferTo puede copiar menos de lo pedido
+            while (copiados < total) {
+                copiados += entrada.transferTo(copiados, total - copiados, salida);
+            }
+        }
+    }
+
+    /**
+     * Escribe un archivo pequeño de forma atómica.
+     *
+     * @param archivo   El archivo a escribir.
+     * @param contenido El contenido.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private void escribirAtomico(Path archivo, String contenido) throws IOException {
+        Path temporal = Files.createTempFile(directorio, "configuracion", EXTENSION_TEMPORAL);
+        try {
+            Files.writeString(temporal, contenido, StandardCharsets.UTF_8);
+            Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Marca una entrada como la más reciente.
+     *
+     * @param clave La clave del PDF.
+     * @return true si el PDF está guardado.
+     */
+    private synchronized boolean usar(String clave) {
+        return entradas.get(clave) != null;
+    }
+
+    /**
+     * Quita una entrada cuyo archivo ya no existe.
+     *
+     * @param clave La clave del PDF.
+     */
+    private synchronized void olvidar(String clave) {
+        Long bytes = entradas.remove(clave);
+        if (bytes != null) {
+            tamano -= bytes;
+        }
+    }
+
+    /**
+     * Registra un PDF recién guardado y desaloja los menos recientes si hace falta.
+     *
+     * @param clave La clave del PDF.
+     * @param bytes El tamaño del archivo.
+     */
+    private synchronized void guardar(String clave, long bytes) {
+        Long anterior = entradas.put(clave, bytes);
+        if (anterior != null) {
+            tamano -= anterior;
+        }
+        tamano += bytes;
+        desalojar();
+    }
+
+    /**
+     * Borra los PDF menos recientes hasta respetar el tamaño máximo.
+     * Un PDF que se está copiando en otro hilo se puede borrar sin problema
+     * en los sistemas POSIX; en Windows el borrado falla y el archivo se
+     * recupera como entrada en la próxima apertura.
+     */
+    private synchronized void desalojar() {
+        Iterator<Map.Entry<String, Long>> it = entradas.entrySet().iterator();
+        while (tamano > tamanoMaximo && it.hasNext()) {
+            Map.Entry<String, Long> masAntigua = it.next();
+            tamano -= masAntigua.getValue();
+            it.remove();
+            desalojos.increment();
+            try {
+                Files.deleteIfExists(directorio.resolve(masAntigua.getKey() + EXTENSION));
+            } catch (IOException e) {
+                // Se reintenta al abrir la caché la próxima vez
+            }
+        }
+    }
+
+    /**
+     * Recupera los PDF del directorio ordenados por fecha de último uso y
+     * borra los temporales que haya dejado un proceso interrumpido.
+     *
+     * @throws IOException Si no se puede recorrer el directorio.
+     */
+    private synchronized void cargarEntradas() throws IOException {
+        List<Path> guardados = new ArrayList<>();
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+            for (Path archivo : archivos) {
+                String nombre = archivo.getFileName().toString();
+                if (nombre.endsWith(EXTENSION_TEMPORAL)) {
+                    Files.deleteIfExists(archivo);
+                } else if (esEntrada(nombre)) {
+                    guardados.add(archivo);
+                }
+            }
+        }
+
+        Map<Path, FileTime> fechas = new HashMap<>();
+        for (Path archivo : guardados) {
+            fechas.put(archivo, Files.getLastModifiedTime(archivo));
+        }
+        guardados.sort(Comparator.comparing(fechas::get));
+        for (Path archivo : guardados) {
+            String nombre = archivo.getFileName().toString();
+            long bytes = Files.size(archivo);
+            entradas.put(nombre.substring(0, LONGITUD_CLAVE), bytes);
+            tamano += bytes;
+        }
+        // El tamaño máximo puede ser menor que en la ejecución anterior
+        desalojar();
+    }
+
+    /**
+     * Borra todos los PDF del directorio y vacía el índice.
+     *
+     * @param temporales Si se borran también los archivos temporales.
+     * @throws IOException Si no se puede recorrer el directorio.
+     */
+    private synchronized void borrarArchivos(boolean temporales) throws IOException {
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+            for (Path archivo : archivos) {
+                String nombre = archivo.getFileName().toString();
+                if (esEntrada(nombre) || (temporales && nombre.endsWith(EXTENSION_TEMPORAL))) {
+                    Files.deleteIfExists(archivo);
+                }
+            }
+        }
+        entradas.clear();
+        tamano = 0;
+    }
+
+    /**
+     * Verifica si un nombre de archivo es el de un PDF guardado.
+     *
+     * @param nombre El nombre del archivo.
+     * @return true si es una clave seguida de la extensión .pdf.
+     */
+    private static boolean esEntrada(String nombre) {
+        if (nombre.length() != LONGITUD_CLAVE + EXTENSION.length() || !nombre.endsWith(EXTENSION)) {
+            return false;
+        }
+        for (int i = 0; i < LONGITUD_CLAVE; i++) {
+            if (Character.digit(nombre.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Dibuja en el lugar de una celda los caracteres que no son Braille, como
+ * '#', '%' o '@', que los traductores copian tal cual. Se usa la fuente del
+ * título, reducida para que el carácter quepa en el paso de una celda, y un
+ * '?' si la fuente no tiene el glifo. La fuente se crea al encontrar el
+ * primero, así que un documento solo con Braille no la incluye.
+ *
+ * @see RenderizadorCeldas
+ */
+final class CaracteresSinCelda {
+
+    // Proporción de la altura de la celda que ocupa la altura de las mayúsculas
+    private static final float ALTO_MAYUSCULA = 0.7f;
+
+    private PdfFont fuente;
+
+    /**
+     * Verifica si un carácter se dibuja como celda o no ocupa nada visible.
+     *
+     * @param c El carácter.
+     * @return true si es una celda Braille (U+2800 a U+28FF), un espacio o un
+     *         carácter de control.
+     */
+    static boolean esCeldaOBlanco(char c) {
+        return (c >= '\u2800' && c <= '\u28FF') || Character.isWhitespace(c) || Character.isISOControl(c);
+    }
+
+    /**
+     * Dibuja un carácter centrado en una celda, apoyado en su borde inferior.
+     *
+     * @param canvas  El lienzo de la página.
+     * @param c       El carácter a dibujar.
+     * @param x       Borde izquierdo de la celda.
+     * @param yArriba Borde superior de la celda.
+     */
+    void dibujar(PdfCanvas canvas, char c, float x, float yArriba) {
+        if (fuente == null) {
+            try {
+                fuente = RegistroFuentes.crearFuenteTitulo();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        int glifo = fuente.containsGlyph(c) ? c : '?';
+        float tamano = RenderizadorPuntos.ALTO_CELDA / ALTO_MAYUSCULA;
+        float ancho = fuente.getWidth(glifo, tamano);
+        if (ancho > RenderizadorPuntos.PASO_CELDA) {
+            tamano *= RenderizadorPuntos.PASO_CELDA / ancho;
+            ancho = RenderizadorPuntos.PASO_CELDA;
+        }
+        canvas.beginText()
+                .setFontAndSize(fuente, tamano)
+                .moveText(x + (RenderizadorPuntos.ANCHO_CELDA - ancho) / 2, yArriba - RenderizadorPuntos.ALTO_CELDA)
+                .showText(String.valueOf((char) glifo))
+                .endText();
+    }
+}
@@ -0,0 +1,156 @@
+package com.traductor.service;
+
+import java.io.IOException;
+
+/**
+ * Divide texto Braille en líneas de un número fijo de celdas sin cortar
+ * palabras. Recibe el texto carácter a carácter, así que sirve para textos
+ * de cualquier longitud: solo guarda la línea y la palabra en curso.
+ *
+ * <p>Las palabras se separan con la celda vacía (U+2800) o con espacios; los
+ * saltos de línea del texto inician una línea nueva. Una palabra más larga
+ * que la línea se corta en trozos del ancho de la línea.</p>
+ */
+class DivisorLineas {
+
+    /**
+     * Celda Braille vacía, usada como espacio.
+     */
+    static final char CELDA_VACIA = '\u2800';
+
+    /**
+     * Recibe cada línea completa.
+     */
+    interface Destino {
+        /**
+         * Procesa una línea.
+         *
+         * @param celdas   Las celdas de la línea (el arreglo se reutiliza).
+         * @param longitud Número de celdas válidas.
+         * @throws IOException Si ocurre un error al escribir la línea.
+         */
+        void linea(char[] celdas, int longitud) throws IOException;
+    }
+
+    private final int celdasPorLinea;
+    private final Destino destino;
+    private final char[] linea;
+    private final char[] palabra;
+    private int longitudLinea;
+    private int longitudPalabra;
+    private int espaciosPendientes;
+    private boolean inicioParrafo = true;
+
+    /**
+     * Inicializa el divisor.
+     *
+     * @param celdasPorLinea Número máximo de celdas por línea.
+     * @param destino        Quien recibe las líneas completas.
+     */
+    DivisorLineas(int celdasPorLinea, Destino destino) {
+        if (celdasPorLinea < 1) {
+            throw new IllegalArgumentException("La línea debe tener al menos una celda");
+        }
+        this.celdasPorLinea = celdasPorLinea;
+        this.destino = destino;
+        this.linea = new char[celdasPorLinea];
+        this.palabra = new char[celdasPorLinea];
+    }
+
+    /**
+     * Agrega un carácter del texto.
+     *
+     * @param c El carácter a agregar.
+     * @throws IOException Si ocurre un error al emitir una línea.
+     */
+    void agregar(char c) throws IOException {
+        if (c == '\r') {
+            return;
+        }
+        if (c == '\n') {
+            cerrarPalabra();
+            emitirLinea();
+            inicioParrafo = true;
+            return;
+        }
+        if (c == CELDA_VACIA || c == ' ') {
+            cerrarPalabra();
+            espaciosPendientes++;
+            return;
+        }
+        if (longitudPalabra == celdasPorLinea) {
+            // Palabra más larga que la línea: se emite el trozo completo
+            if (longitudLinea > 0) {
+                emitirLinea();
+            }
+            System.arraycopy(palabra, 0, linea, 0, longitudPalabra);
+            longitudLinea = longitudPalabra;
+            longitudPalabra = 0;
+            espaciosPendientes = 0;
+            emitirLinea();
+        }
+        palabra[longitudPalabra++] = c;
+    }
+
+    /**
+     * Agrega un fragmento de texto.
+     *
+     * @param texto El texto a agregar.
+     * @throws IOException Si ocurre un error al emitir una línea.
+     */
+    void agregar(CharSequence texto) throws IOException {
+        for (int i = 0; i < texto.length(); i++) {
+            agregar(texto.charAt(i));
+        }
+    }
+
+    /**
+     * Emite lo que quede pendiente al terminar el texto.
+     *
+     * @throws IOException Si ocurre un error al emitir la línea.
+     */
+    void terminar() throws IOException {
+        cerrarPalabra();
+        if (longitudLinea > 0) {
+            emitirLinea();
+        }
+    }
+
+    /**
+     * Coloca la palabra en curso en la línea, saltando de línea si no cabe.
+     *
+     * @throws IOException Si ocurre un error al emitir una línea.
+     */
+    private void cerrarPalabra() throws IOException {
+        if (longitudPalabra == 0) {
+            return;
+        }
+        // Los espacios al inicio de un párrafo se conservan; tras un salto automático no
+        int espacios = longitudLinea > 0 || inicioParrafo ? espaciosPendientes : 0;
+        if (longitudLinea + espacios + longitudPalabra > celdasPorLinea) {
+            if (longitudLinea > 0) {
+                emitirLinea();
+            }
+            espacios = 0;
+        }
+        for (int i = 0; i < espacios; i++) {
+            linea[longitudLinea++] = CELDA_VACIA;
+        }
+        System.arraycopy(palabra, 0, linea, longitudLinea, longitudPalabra);
+        longitudLinea += longitudPalabra;
+        longitudPalabra = 0;
+        espaciosPendientes = 0;
+    }
+
+    /**
+     * Entrega la línea en curso al destino y empieza una nueva.
+     *
+     * @throws IOException Si ocurre un error al emitir la línea.
+     */
+    private void emitirLinea() throws IOException {
+        destino.linea(linea, longitudLinea);
+        longitudLinea = 0;
+        espaciosPendientes = 0;
+        inicioParrafo = false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.traductor.service;
+
+/**
+ * Texto de una etiqueta de señalética: el original y su traducción a Braille.
+ *
+ * @see GeneradorEtiquetas
+ */
+public final class Etiqueta {
+    private final String textoOriginal;
+    private final String textoBraille;
+
+    /**
+     * Crea una etiqueta.
+     *
+     * @param textoOriginal El texto original en español.
+     * @param textoBraille  El texto traducido a símbolos Braille.
+     */
+    public Etiqueta(String textoOriginal, String textoBraille) {
+        this.textoOriginal = textoOriginal != null ? textoOriginal : "";
+        this.textoBraille = textoBraille != null ? textoBraille : "";
+    }
+
+    /**
+     * @return El texto original.
+     */
+    public String getTextoOriginal() {
+        return textoOriginal;
+    }
+
+    /**
+     * @return El texto traducido a símbolos Braille.
+     */
+    public String getTextoBraille() {
+        return textoBraille;
+    }
+}
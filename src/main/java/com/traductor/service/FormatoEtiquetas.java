@@ -0,0 +1,136 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.geom.PageSize;
+
+/**
+ * Disposición de una hoja de etiquetas: tamaño de página y de etiqueta,
+ * márgenes y separación entre etiquetas, todo en milímetros. El número de
+ * columnas y filas se calcula a partir de estas medidas.
+ *
+ * @see GeneradorEtiquetas
+ */
+public final class FormatoEtiquetas {
+
+    /**
+     * Hoja A4 de 3 x 8 etiquetas de 70 x 37 mm sin separación.
+     */
+    public static final FormatoEtiquetas A4_3X8 = new FormatoEtiquetas(PageSize.A4, 70, 37, 0, 0, 0, 0);
+
+    /**
+     * Hoja A4 de 2 x 4 etiquetas de 105 x 74 mm sin separación.
+     */
+    public static final FormatoEtiquetas A4_2X4 = new FormatoEtiquetas(PageSize.A4, 105, 74, 0, 0, 0, 0);
+
+    private final PageSize pagina;
+    private final float anchoEtiqueta;
+    private final float altoEtiqueta;
+    private final float margenSuperior;
+    private final float margenIzquierdo;
+    private final float separacionHorizontal;
+    private final float separacionVertical;
+    private final int columnas;
+    private final int filas;
+
+    /**
+     * Crea un formato de hoja de etiquetas.
+     *
+     * @param pagina                 El tamaño de la página.
+     * @param anchoEtiquetaMm        Ancho de cada etiqueta.
+     * @param altoEtiquetaMm         Alto de cada etiqueta.
+     * @param margenSuperiorMm       Distancia del borde superior a la primera fila.
+     * @param margenIzquierdoMm      Distancia del borde izquierdo a la primera columna.
+     * @param separacionHorizontalMm Separación entre columnas.
+     * @param separacionVerticalMm   Separación entre filas.
+     * @throws IllegalArgumentException Si no cabe ninguna etiqueta en la página.
+     */
+    public FormatoEtiquetas(PageSize pagina, float anchoEtiquetaMm, float altoEtiquetaMm,
+                            float margenSuperiorMm, float margenIzquierdoMm,
+                            float separacionHorizontalMm, float separacionVerticalMm) {
+        if (anchoEtiquetaMm <= 0 || altoEtiquetaMm <= 0 || margenSuperiorMm < 0 || margenIzquierdoMm < 0
+                || separacionHorizontalMm < 0 || separacionVerticalMm < 0) {
+            throw new IllegalArgumentException("Las medidas de la etiqueta no son válidas");
+        }
+        this.pagina = pagina;
+        this.anchoEtiqueta = anchoEtiquetaMm * GeneradorPDF.MM_TO_POINTS;
+        this.altoEtiqueta = altoEtiquetaMm * GeneradorPDF.MM_TO_POINTS;
+        this.margenSuperior = margenSuperiorMm * GeneradorPDF.MM_TO_POINTS;
+        this.margenIzquierdo = margenIzquierdoMm * GeneradorPDF.MM_TO_POINTS;
+        this.separacionHorizontal = separacionHorizontalMm * GeneradorPDF.MM_TO_POINTS;
+        this.separacionVertical = separacionVerticalMm * GeneradorPDF.MM_TO_POINTS;
+        this.columnas = contar(pagina.getWidth() - margenIzquierdo, anchoEtiqueta, separacionHorizontal);
+        this.filas = contar(pagina.getHeight() - margenSuperior, altoEtiqueta, separacionVertical);
+        if (columnas == 0 || filas == 0) {
+            throw new IllegalArgumentException("La etiqueta no cabe en la página");
+        }
+    }
+
+    /**
+     * Cuenta cuántos elementos caben en un espacio.
+     * Se tolera medio punto de redondeo para que las hojas exactas (3 x 70 mm en A4) cuadren.
+     */
+    private static int contar(float espacio, float tamano, float separacion) {
+        return Math.max(0, (int) ((espacio + separacion + 0.5f) / (tamano + separacion)));
+    }
+
+    /**
+     * @return El tamaño de la página.
+     */
+    public PageSize getPagina() {
+        return pagina;
+    }
+
+    /**
+     * @return Número de columnas de etiquetas por página.
+     */
+    public int getColumnas() {
+        return columnas;
+    }
+
+    /**
+     * @return Número de filas de etiquetas por página.
+     */
+    public int getFilas() {
+        return filas;
+    }
+
+    /**
+     * @return Número de etiquetas por página.
+     */
+    public int getEtiquetasPorPagina() {
+        return columnas * filas;
+    }
+
+    /**
+     * @return Ancho de cada etiqueta, en puntos.
+     */
+    float getAnchoEtiqueta() {
+        return anchoEtiqueta;
+    }
+
+    /**
+     * @return Alto de cada etiqueta, en puntos.
+     */
+    float getAltoEtiqueta() {
+        return altoEtiqueta;
+    }
+
+    /**
+     * Calcula el borde izquierdo de una columna.
+     *
+     * @param columna La columna, empezando en 0.
+     * @return La coordenada x en puntos.
+     */
+    float xColumna(int columna) {
+        return margenIzquierdo + columna * (anchoEtiqueta + separacionHorizontal);
+    }
+
+    /**
+     * Calcula el borde superior de una fila.
+     *
+     * @param fila La fila, empezando en 0 desde arriba.
+     * @return La coordenada y en puntos.
+     */
+    float yFila(int fila) {
+        return pagina.getTop() - margenSuperior - fila * (altoEtiqueta + separacionVertical);
+    }
+}
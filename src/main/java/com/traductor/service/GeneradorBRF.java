@@ -0,0 +1,236 @@
+package com.traductor.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Genera archivos BRF (Braille Ready Format) para impresoras Braille.
+ * Cada celda de 6 puntos se convierte en su carácter ASCII Braille
+ * norteamericano con una tabla de 64 bytes; el texto se divide en líneas de
+ * un número fijo de celdas sin cortar palabras y en páginas de un número
+ * fijo de líneas separadas por un salto de página.
+ *
+ * <p>Recibe el texto Braille como {@link Appendable} y escribe los bytes
+ * directamente en un canal a través de un búfer, sin cadenas intermedias.
+ * Las celdas de 8 puntos pierden los puntos 7 y 8; cualquier otro carácter
+ * que no sea Braille se escribe como espacio. No es seguro para uso
+ * concurrente.</p>
+ *
+ * @see GeneradorPDF
+ */
+public class GeneradorBRF implements Appendable, Closeable {
+
+    /**
+     * Celdas por línea por defecto.
+     */
+    public static final int CELDAS_POR_LINEA_POR_DEFECTO = 40;
+
+    /**
+     * Líneas por página por defecto.
+     */
+    public static final int LINEAS_POR_PAGINA_POR_DEFECTO = 25;
+
+    // ASCII Braille norteamericano, indexado por los puntos de la celda: punto1=bit0 ... punto6=bit5
+    private static final byte[] TABLA_ASCII = " A1B'K2L@CIF/MSP\"E3H9O6R^DJG>NTQ,*5<-U8V.%[$+X!&;:4\\0Z7(_?W]#Y)="
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte ESPACIO = ' ';
+    private static final byte RETORNO = '\r';
+    private static final byte NUEVA_LINEA = '\n';
+    private static final byte SALTO_PAGINA = '\f';
+    private static final int TAMANO_BUFER = 64 * 1024;
+
+    private final WritableByteChannel canal;
+    private final int lineasPorPagina;
+    private final DivisorLineas divisor;
+    private final ByteBuffer bufer;
+    private int lineaActual;
+    private long paginas;
+    private boolean cerrado;
+
+    /**
+     * Inicializa el generador con las medidas por defecto (40 x 25).
+     *
+     * @param salida El flujo donde se escribe el BRF, que se cierra al terminar.
+     */
+    public GeneradorBRF(OutputStream salida) {
+        this(Channels.newChannel(salida), CELDAS_POR_LINEA_POR_DEFECTO, LINEAS_POR_PAGINA_POR_DEFECTO);
+    }
+
+    /**
+     * Inicializa el generador.
+     *
+     * @param canal           El canal donde se escribe el BRF, que se cierra al terminar.
+     * @param celdasPorLinea  Número de celdas por línea.
+     * @param lineasPorPagina Número de líneas por página.
+     */
+    public GeneradorBRF(WritableByteChannel canal, int celdasPorLinea, int lineasPorPagina) {
+        if (lineasPorPagina < 1) {
+            throw new IllegalArgumentException("La página debe tener al menos una línea");
+        }
+        this.canal = canal;
+        this.lineasPorPagina = lineasPorPagina;
+        // Siempre cabe al menos una línea completa con su CR LF y el salto de página
+        this.bufer = ByteBuffer.allocate(Math.max(TAMANO_BUFER, celdasPorLinea + 3));
+        this.divisor = new DivisorLineas(celdasPorLinea, this::escribirLinea);
+    }
+
+    /**
+     * Genera un archivo BRF a partir de un texto Braille leído por flujo.
+     *
+     * @param textoBraille    El lector con el texto traducido a símbolos Braille.
+     * @param destino         El archivo BRF a crear o reemplazar.
+     * @param celdasPorLinea  Número de celdas por línea.
+     * @param lineasPorPagina Número de líneas por página.
+     * @return Número de páginas escritas.
+     * @throws IOException Si ocurre un error al leer o escribir.
+     */
+    public static long generarBRF(Reader textoBraille, Path destino, int celdasPorLinea, int lineasPorPagina)
+            throws IOException {
+        FileChannel canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        GeneradorBRF generador = new GeneradorBRF(canal, celdasPorLinea, lineasPorPagina);
+        try (generador) {
+            char[] bloque = new char[8192];
+            int leidos;
+            while ((leidos = textoBraille.read(bloque)) != -1) {
+                for (int i = 0; i < leidos; i++) {
+                    generador.agregar(bloque[i]);
+                }
+            }
+        }
+        return generador.getPaginas();
+    }
+
+    /**
+     * Convierte un carácter Braille Unicode en su byte ASCII Braille.
+     *
+     * @param c El carácter a convertir.
+     * @return El byte ASCII Braille, o un espacio si el carácter no es Braille.
+     */
+    public static byte convertirCelda(char c) {
+        if (c < '\u2800' || c > '\u28FF') {
+            return ESPACIO;
+        }
+        return TABLA_ASCII[(c - '\u2800') & 0x3F];
+    }
+
+    /**
+     * @return Número de páginas escritas hasta ahora (completas o la última al cerrar).
+     */
+    public long getPaginas() {
+        return paginas;
+    }
+
+    @Override
+    public Appendable append(CharSequence texto) throws IOException {
+        return append(texto, 0, texto.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence texto, int inicio, int fin) throws IOException {
+        for (int i = inicio; i < fin; i++) {
+            agregar(texto.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        agregar(c);
+        return this;
+    }
+
+    /**
+     * Escribe lo pendiente, termina la última página y cierra el canal.
+     *
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            divisor.terminar();
+            if (lineaActual > 0) {
+                escribirByte(SALTO_PAGINA);
+                paginas++;
+            }
+            vaciarBufer();
+        } finally {
+            canal.close();
+        }
+    }
+
+    /**
+     * Agrega un carácter Braille.
+     *
+     * @param c El carácter a agregar.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void agregar(char c) throws IOException {
+        if (cerrado) {
+            throw new IOException("El archivo BRF ya está cerrado");
+        }
+        divisor.agregar(c);
+    }
+
+    /**
+     * Escribe una línea terminada en CR LF y un salto de página si la página se llena.
+     *
+     * @param celdas   Las celdas de la línea.
+     * @param longitud Número de celdas válidas.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void escribirLinea(char[] celdas, int longitud) throws IOException {
+        if (bufer.remaining() < longitud + 3) {
+            vaciarBufer();
+        }
+        for (int i = 0; i < longitud; i++) {
+            bufer.put(convertirCelda(celdas[i]));
+        }
+        bufer.put(RETORNO).put(NUEVA_LINEA);
+        if (++lineaActual == lineasPorPagina) {
+            bufer.put(SALTO_PAGINA);
+            lineaActual = 0;
+            paginas++;
+        }
+    }
+
+    /**
+     * Escribe un byte suelto en el búfer.
+     *
+     * @param b El byte a escribir.
+     * @throws IOException Si ocurre un error al vaciar el búfer.
+     */
+    private void escribirByte(byte b) throws IOException {
+        if (!bufer.hasRemaining()) {
+            vaciarBufer();
+        }
+        bufer.put(b);
+    }
+
+    /**
+     * Escribe en el canal el contenido del búfer.
+     *
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void vaciarBufer() throws IOException {
+        bufer.flip();
+        while (bufer.hasRemaining()) {
+            canal.write(bufer);
+        }
+        bufer.clear();
+    }
+}
@@ -0,0 +1,211 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Genera hojas de etiquetas de señalética: muchas etiquetas en un solo PDF,
+ * colocadas según un {@link FormatoEtiquetas}. Cada etiqueta lleva el texto
+ * original en una línea y debajo el Braille, centrado y con las medidas
+ * Marburg Medium.
+ *
+ * <p>La fuente del texto original y la fuente o los patrones de puntos del
+ * Braille se crean una sola vez por documento y se comparten entre todas
+ * las etiquetas. Cada página se escribe en el archivo en cuanto se llena.</p>
+ *
+ * @see GeneradorPDF
+ */
+public class GeneradorEtiquetas {
+
+    // Margen interior de cada etiqueta, en milímetros
+    private static final float RELLENO_MM = 3.0f;
+
+    // Tamaños del texto original, en puntos; se reduce hasta que cabe en una línea
+    private static final float TAMANO_TITULO_MAXIMO = 16;
+    private static final float TAMANO_TITULO_MINIMO = 6;
+
+    // Separación entre el texto original y el Braille, en puntos
+    private static final float SEPARACION_TITULO = 6;
+
+    private GeneradorEtiquetas() {
+    }
+
+    /**
+     * Genera un PDF con una etiqueta por cada elemento, en el orden recibido.
+     *
+     * @param etiquetas   Las etiquetas a imprimir.
+     * @param formato     La disposición de la hoja.
+     * @param rutaDestino La ruta donde se guardará el archivo PDF.
+     * @param modo        La forma de dibujar el Braille.
+     * @param progreso    Quien recibe el número de etiquetas impresas al
+     *                    terminar cada página (puede ser null).
+     * @return Número de etiquetas cuyo Braille no cupo completo y se recortó.
+     * @throws IOException Si ocurre un error al crear o escribir el archivo.
+     */
+    public static int generarPDF(Iterable<Etiqueta> etiquetas, FormatoEtiquetas formato, String rutaDestino,
+                                 GeneradorPDF.ModoRenderizado modo, ProgresoExportacion progreso) throws IOException {
+        long total = etiquetas instanceof Collection ? ((Collection<?>) etiquetas).size() : -1;
+        PdfDocument pdf = new PdfDocument(new PdfWriter(new File(rutaDestino)));
+        try {
+            Hoja hoja = new Hoja(pdf, formato, RegistroFuentes.crearFuenteTitulo(),
+                    RenderizadorCeldas.crear(pdf, modo));
+            long impresas = 0;
+            PdfPage pagina = null;
+            PdfCanvas canvas = null;
+            int posicion = formato.getEtiquetasPorPagina();
+
+            for (Etiqueta etiqueta : etiquetas) {
+                if (posicion == formato.getEtiquetasPorPagina()) {
+                    if (pagina != null) {
+                        terminarPagina(canvas, pagina, progreso, impresas, total);
+                    }
+                    pagina = pdf.addNewPage(formato.getPagina());
+                    canvas = new PdfCanvas(pagina);
+                    posicion = 0;
+                }
+                int fila = posicion / formato.getColumnas();
+                int columna = posicion % formato.getColumnas();
+                hoja.dibujar(canvas, etiqueta, formato.xColumna(columna), formato.yFila(fila));
+                posicion++;
+                impresas++;
+            }
+
+            if (pagina == null) {
+                // Un PDF sin páginas no es válido
+                pagina = pdf.addNewPage(formato.getPagina());
+                canvas = new PdfCanvas(pagina);
+            }
+            terminarPagina(canvas, pagina, progreso, impresas, total);
+            return hoja.recortadas;
+        } finally {
+            pdf.close();
+        }
+    }
+
+    /**
+     * Escribe la página en el archivo e informa del avance.
+     */
+    private static void terminarPagina(PdfCanvas canvas, PdfPage pagina, ProgresoExportacion progreso,
+                                       long impresas, long total) {
+        canvas.release();
+        pagina.flush();
+        if (progreso != null) {
+            progreso.actualizar(impresas, total);
+        }
+    }
+
+    /**
+     * Recursos compartidos por todas las etiquetas de un documento y el
+     * espacio de trabajo para dibujar cada una.
+     */
+    private static class Hoja implements DivisorLineas.Destino {
+        private final FormatoEtiquetas formato;
+        private final PdfFont fuenteTitulo;
+        private final RenderizadorCeldas renderizador;
+        private final float relleno;
+        private final float anchoInterior;
+        private final int celdasPorLinea;
+
+        // Líneas de la etiqueta en curso; se reutilizan entre etiquetas
+        private final char[][] lineas;
+        private final int[] longitudes;
+        private int numeroLineas;
+        private boolean desbordada;
+        private int recortadas;
+
+        Hoja(PdfDocument pdf, FormatoEtiquetas formato, PdfFont fuenteTitulo, RenderizadorCeldas renderizador) {
+            this.formato = formato;
+            this.fuenteTitulo = fuenteTitulo;
+            this.renderizador = renderizador;
+            this.relleno = RELLENO_MM * GeneradorPDF.MM_TO_POINTS;
+            this.anchoInterior = Math.max(0, formato.getAnchoEtiqueta() - 2 * relleno);
+            this.celdasPorLinea = RenderizadorPuntos.celdasEnAncho(anchoInterior);
+            int maxLineas = (int) (Math.max(0, formato.getAltoEtiqueta() - 2 * relleno) / RenderizadorPuntos.PASO_LINEA) + 1;
+            this.lineas = new char[maxLineas][celdasPorLinea];
+            this.longitudes = new int[maxLineas];
+        }
+
+        /**
+         * Dibuja una etiqueta con su esquina superior izquierda en (x, y).
+         */
+        void dibujar(PdfCanvas canvas, Etiqueta etiqueta, float x, float y) throws IOException {
+            float izquierda = x + relleno;
+            float arriba = y - relleno;
+            float abajo = y - formato.getAltoEtiqueta() + relleno;
+
+            // Nada de la etiqueta se dibuja fuera de sus bordes
+            canvas.saveState();
+            canvas.rectangle(x, y - formato.getAltoEtiqueta(), formato.getAnchoEtiqueta(), formato.getAltoEtiqueta());
+            canvas.clip();
+            canvas.endPath();
+
+            String titulo = etiqueta.getTextoOriginal().replace('\n', ' ').replace("\r", "").trim();
+            if (!titulo.isEmpty()) {
+                float tamano = tamanoTitulo(titulo);
+                float ancho = fuenteTitulo.getWidth(titulo, tamano);
+                float base = arriba - fuenteTitulo.getAscent(titulo, tamano);
+                canvas.beginText()
+                        .setFontAndSize(fuenteTitulo, tamano)
+                        .moveText(izquierda + (anchoInterior - ancho) / 2, base)
+                        .showText(titulo)
+                        .endText();
+                arriba = base + fuenteTitulo.getDescent(titulo, tamano) - SEPARACION_TITULO;
+            }
+
+            // Líneas Braille que caben debajo del título, centradas en el espacio restante
+            float disponible = arriba - abajo;
+            int capacidad = disponible < RenderizadorPuntos.ALTO_CELDA ? 0
+                    : Math.min(lineas.length, (int) ((disponible - RenderizadorPuntos.ALTO_CELDA) / RenderizadorPuntos.PASO_LINEA) + 1);
+            numeroLineas = 0;
+            desbordada = false;
+            DivisorLineas divisor = new DivisorLineas(celdasPorLinea, this);
+            divisor.agregar(etiqueta.getTextoBraille());
+            divisor.terminar();
+            if (numeroLineas > capacidad) {
+                numeroLineas = capacidad;
+                desbordada = true;
+            }
+            if (desbordada) {
+                recortadas++;
+            }
+
+            float altoBloque = numeroLineas == 0 ? 0
+                    : (numeroLineas - 1) * RenderizadorPuntos.PASO_LINEA + RenderizadorPuntos.ALTO_CELDA;
+            float yLinea = arriba - (disponible - altoBloque) / 2;
+            for (int i = 0; i < numeroLineas; i++) {
+                float xLinea = izquierda + (anchoInterior - RenderizadorPuntos.anchoLinea(longitudes[i])) / 2;
+                renderizador.dibujarLinea(canvas, lineas[i], longitudes[i], xLinea, yLinea);
+                yLinea -= RenderizadorPuntos.PASO_LINEA;
+            }
+            canvas.restoreState();
+        }
+
+        @Override
+        public void linea(char[] celdas, int longitud) {
+            if (numeroLineas == lineas.length) {
+                desbordada = true;
+                return;
+            }
+            System.arraycopy(celdas, 0, lineas[numeroLineas], 0, longitud);
+            longitudes[numeroLineas++] = longitud;
+        }
+
+        /**
+         * Calcula el tamaño del texto original para que quepa en una línea.
+         */
+        private float tamanoTitulo(String titulo) {
+            float ancho = fuenteTitulo.getWidth(titulo, TAMANO_TITULO_MAXIMO);
+            if (ancho <= anchoInterior) {
+                return TAMANO_TITULO_MAXIMO;
+            }
+            return Math.max(TAMANO_TITULO_MINIMO, TAMANO_TITULO_MAXIMO * anchoInterior / ancho);
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.traductor.service;
 
-import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.actions.data.ITextCoreProductData;
+import com.itextpdf.kernel.events.PdfDocumentEvent;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.layout.LayoutArea;
 import com.itextpdf.layout.properties.TextAlignment;
+import com.traductor.metricas.FasePDF;
+import com.traductor.metricas.Metricas;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Clase encargada de generar archivos PDF con texto en Braille.
@@ -22,17 +31,41 @@ import java.io.IOException;
 public class GeneradorPDF {
 
     // Constantes del estándar Marburg Medium (DIN 32976)
-    private static final float MM_TO_POINTS = 2.834645f;
+    static final float MM_TO_POINTS = 2.834645f;
 
     // Dimensiones de la celda
     private static final float ALTO_CELDA_MM = 10.0f;
+    static final float DISTANCIA_ENTRE_PUNTOS_MM = 2.5f;
+    static final float DIAMETRO_PUNTO_MM = 1.5f;
 
     // Espaciado entre celdas/caracteres
-    private static final float ESPACIADO_ENTRE_CARACTERES_MM = 6.0f;
-    private static final float ESPACIADO_ENTRE_LINEAS_MM = 15.0f; // Aumentado a 15mm para mayor separación
+    static final float ESPACIADO_ENTRE_CARACTERES_MM = 6.0f;
+    static final float ESPACIADO_ENTRE_LINEAS_MM = 15.0f; // Aumentado a 15mm para mayor separación
 
     // Tamaño de fuente calculado para Marburg Medium
-    private static final float TAMANO_FUENTE_BRAILLE = ALTO_CELDA_MM * MM_TO_POINTS * 1.2f;
+    static final float TAMANO_FUENTE_BRAILLE = ALTO_CELDA_MM * MM_TO_POINTS * 1.2f;
+
+    // Márgenes de la página en puntos
+    static final float MARGEN = 40;
+
+    // Caracteres dibujados entre dos avisos de avance en modo vectorial
+    private static final int BLOQUE_PROGRESO = 4096;
+
+    /**
+     * Forma de dibujar el texto Braille en el PDF.
+     */
+    public enum ModoRenderizado {
+        /**
+         * Caracteres Unicode U+28xx con una fuente Braille incrustada. Si no
+         * hay ninguna fuente Braille disponible se dibujan los puntos, como en
+         * {@link #VECTORIAL}.
+         */
+        FUENTE,
+        /**
+         * Puntos dibujados como círculos con la geometría Marburg Medium, sin fuentes.
+         */
+        VECTORIAL
+    }
 
     /**
      * Genera un archivo PDF con el texto original y su traducción a Braille.
@@ -43,16 +76,72 @@ public class GeneradorPDF {
      * @throws IOException Si ocurre un error al crear o escribir el archivo
      */
     public static void generarPDF(String textoOriginal, String textoBraille, String rutaDestino) throws IOException {
+        generarPDF(textoOriginal, textoBraille, rutaDestino, ModoRenderizado.FUENTE);
+    }
+
+    /**
+     * Genera un archivo PDF con el texto original y su traducción a Braille
+     * usando el modo de renderizado indicado.
+     *
+     * @param textoOriginal El texto original en español
+     * @param textoBraille  El texto traducido a símbolos Braille
+     * @param rutaDestino   La ruta donde se guardará el archivo PDF
+     * @param modo          La forma de dibujar el Braille
+     * @throws IOException Si ocurre un error al crear o escribir el archivo
+     */
+    public static void generarPDF(String textoOriginal, String textoBraille, String rutaDestino,
+                                  ModoRenderizado modo) throws IOException {
+        generarPDF(textoOriginal, textoBraille, rutaDestino, modo, null);
+    }
+
+    /**
+     * Genera un archivo PDF con el texto original y su traducción a Braille,
+     * informando del avance.
+     *
+     * <p>Cuando se dibujan los puntos (en modo {@link ModoRenderizado#VECTORIAL}
+     * o en modo {@link ModoRenderizado#FUENTE} sin fuente Braille) se informan
+     * los caracteres Braille procesados sobre el total. Con la fuente Braille
+     * el párrafo se compone de una vez, así que solo se informa el número de
+     * páginas iniciadas, con total -1. Si {@code progreso} lanza una excepción
+     * no comprobada (por ejemplo para cancelar), la generación se interrumpe y
+     * la excepción se propaga; el archivo queda incompleto.</p>
+     *
+     * @param textoOriginal El texto original en español
+     * @param textoBraille  El texto traducido a símbolos Braille
+     * @param rutaDestino   La ruta donde se guardará el archivo PDF
+     * @param modo          La forma de dibujar el Braille
+     * @param progreso      Quien recibe el avance (puede ser null)
+     * @throws IOException Si ocurre un error al crear o escribir el archivo
+     */
+    public static void generarPDF(String textoOriginal, String textoBraille, String rutaDestino,
+                                  ModoRenderizado modo, ProgresoExportacion progreso) throws IOException {
         File archivo = new File(rutaDestino);
 
         // Crear el documento PDF
         PdfWriter writer = new PdfWriter(archivo);
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf, PageSize.A4);
-        document.setMargins(40, 40, 40, 40);
+        document.setMargins(MARGEN, MARGEN, MARGEN, MARGEN);
+
+        // Tiempos de cada fase para las métricas; la composición incluye las
+        // páginas que el documento ya escribe mientras compone
+        long inicioComposicion = System.nanoTime();
+        long nanosFuentes = 0;
+        boolean completo = false;
 
         try {
-            PdfFont fontBold = PdfFontFactory.createFont(com.itextpdf.io.font.constants.StandardFonts.HELVETICA_BOLD);
+            // Las fuentes se analizan una sola vez por JVM en el registro
+            long marca = System.nanoTime();
+            PdfFont fontBold = RegistroFuentes.crearFuenteTitulo();
+            // Sin fuente Braille se dibujan los puntos, como en RenderizadorCeldas.crear:
+            // la fuente del título no tiene glifos U+28xx y el Braille no se vería
+            PdfFont fontBraille = modo == ModoRenderizado.FUENTE ? RegistroFuentes.crearFuenteBraille() : null;
+            nanosFuentes += System.nanoTime() - marca;
+
+            if (progreso != null && fontBraille != null) {
+                pdf.addEventHandler(PdfDocumentEvent.START_PAGE,
+                        evento -> progreso.actualizar(pdf.getNumberOfPages(), -1));
+            }
 
             // Texto original - Sans Serif, negrita y centrado
             Paragraph textoOrig = new Paragraph(textoOriginal)
@@ -62,54 +151,132 @@ public class GeneradorPDF {
                     .setMarginBottom(30);
             document.add(textoOrig);
 
-            // Texto Braille - se intenta con fuentes del sistema que soporten Unicode
-            boolean brailleAgregado = false;
+            if (fontBraille == null) {
+                dibujarPuntos(document, textoBraille, progreso);
+                completo = true;
+                return;
+            }
 
-            // Se intenta con diferentes fuentes del sistema que podrían soportar Braille
-            String[] fuentesParaProbar = {
-                    "C:/Windows/Fonts/seguisym.ttf", // Segoe UI Symbol
-                    "C:/Windows/Fonts/arial.ttf", // Arial
-                    "C:/Windows/Fonts/arialuni.ttf", // Arial Unicode MS
-                    "C:/Windows/Fonts/DejaVuSans.ttf" // DejaVu Sans
-            };
+            // Texto Braille - con la fuente Braille del registro
+            // Aplicar estándar Marburg Medium
+            Paragraph textoBrailleParrafo = new Paragraph(textoBraille)
+                    .setFont(fontBraille)
+                    .setFontSize(TAMANO_FUENTE_BRAILLE)
+                    .setFixedLeading(ESPACIADO_ENTRE_LINEAS_MM * MM_TO_POINTS)
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setCharacterSpacing(ESPACIADO_ENTRE_CARACTERES_MM * MM_TO_POINTS * 0.15f);
+            document.add(textoBrailleParrafo);
+            completo = true;
+
+        } finally {
+            long inicioEscritura = System.nanoTime();
+            document.close();
+            if (completo) {
+                Metricas.registrarFasePDF(FasePDF.FUENTES, nanosFuentes);
+                Metricas.registrarFasePDF(FasePDF.COMPOSICION, inicioEscritura - inicioComposicion - nanosFuentes);
+                Metricas.registrarFasePDF(FasePDF.ESCRITURA, System.nanoTime() - inicioEscritura);
+            }
+        }
+    }
 
-            for (String rutaFuente : fuentesParaProbar) {
+    /**
+     * Describe todo lo que, además de los textos, determina el PDF generado
+     * en un modo: las medidas, la versión de iText y, en modo
+     * {@link ModoRenderizado#FUENTE}, la fuente Braille elegida. Si cambia
+     * la descripción, cambia el PDF; {@link CachePDF} la usa en sus claves.
+     *
+     * @param modo La forma de dibujar el Braille.
+     * @return La descripción de la configuración.
+     */
+    static String describirConfiguracion(ModoRenderizado modo) {
+        StringBuilder descripcion = new StringBuilder()
+                .append("modo=").append(modo)
+                .append(";itext=").append(ITextCoreProductData.getInstance().getVersion())
+                .append(";celda=").append(ALTO_CELDA_MM).append(',').append(DISTANCIA_ENTRE_PUNTOS_MM)
+                .append(',').append(DIAMETRO_PUNTO_MM)
+                .append(";espaciado=").append(ESPACIADO_ENTRE_CARACTERES_MM).append(',').append(ESPACIADO_ENTRE_LINEAS_MM)
+                .append(";fuente=").append(TAMANO_FUENTE_BRAILLE)
+                .append(";margen=").append(MARGEN);
+        if (modo == ModoRenderizado.FUENTE) {
+            // Una fuente nueva en la misma ruta también cambia el PDF
+            String origen = RegistroFuentes.getOrigenFuenteBraille();
+            descripcion.append(";origen=").append(origen);
+            if (origen != null && !origen.equals(RegistroFuentes.RECURSO_FUENTE)) {
                 try {
-                    File archivoFuente = new File(rutaFuente);
-                    if (archivoFuente.exists()) {
-                        PdfFont fontBraille = PdfFontFactory.createFont(rutaFuente, PdfEncodings.IDENTITY_H,
-                                PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
-
-                        // Aplicar estándar Marburg Medium
-                        Paragraph textoBrailleParrafo = new Paragraph(textoBraille)
-                                .setFont(fontBraille)
-                                .setFontSize(TAMANO_FUENTE_BRAILLE)
-                                .setFixedLeading(ESPACIADO_ENTRE_LINEAS_MM * MM_TO_POINTS)
-                                .setTextAlignment(TextAlignment.CENTER)
-                                .setCharacterSpacing(ESPACIADO_ENTRE_CARACTERES_MM * MM_TO_POINTS * 0.15f);
-                        document.add(textoBrailleParrafo);
-                        brailleAgregado = true;
-                        break;
-                    }
-                } catch (Exception e) {
-                    // Continuar con la siguiente fuente
-                    continue;
+                    Path archivo = Paths.get(origen);
+                    descripcion.append(',').append(Files.size(archivo))
+                            .append(',').append(Files.getLastModifiedTime(archivo).toMillis());
+                } catch (IOException | InvalidPathException e) {
+                    // Sin tamaño ni fecha la descripción sigue siendo válida
                 }
             }
+        }
+        return descripcion.toString();
+    }
+
+    /**
+     * Dibuja el texto Braille como puntos debajo del contenido ya agregado,
+     * en líneas centradas que no cortan palabras, agregando páginas si hace falta.
+     *
+     * @param document     El documento con el texto original ya agregado.
+     * @param textoBraille El texto traducido a símbolos Braille.
+     * @param progreso     Quien recibe el avance (puede ser null).
+     * @throws IOException Si ocurre un error al dibujar.
+     */
+    private static void dibujarPuntos(Document document, String textoBraille, ProgresoExportacion progreso)
+            throws IOException {
+        LayoutArea area = document.getRenderer().getCurrentArea();
+        Rectangle util = PageSize.A4.clone().applyMargins(MARGEN, MARGEN, MARGEN, MARGEN, false);
+
+        // La primera línea va debajo del texto original
+        LineasCentradas destino = new LineasCentradas(document.getPdfDocument(), util,
+                area.getPageNumber(), area.getBBox().getTop());
+        DivisorLineas divisor = new DivisorLineas(RenderizadorPuntos.celdasEnAncho(util.getWidth()), destino);
+        int total = textoBraille.length();
+        for (int inicio = 0; inicio < total; inicio += BLOQUE_PROGRESO) {
+            int fin = Math.min(inicio + BLOQUE_PROGRESO, total);
+            divisor.agregar(textoBraille.subSequence(inicio, fin));
+            if (progreso != null) {
+                progreso.actualizar(fin, total);
+            }
+        }
+        divisor.terminar();
+        destino.terminar();
+    }
+
+    /**
+     * Dibuja cada línea recibida centrada en el área útil, pasando a una
+     * página nueva cuando no queda espacio.
+     */
+    private static class LineasCentradas implements DivisorLineas.Destino {
+        private final PdfDocument pdf;
+        private final Rectangle util;
+        private final RenderizadorPuntos renderizador;
+        private PdfCanvas canvas;
+        private float y;
+
+        LineasCentradas(PdfDocument pdf, Rectangle util, int pagina, float yInicial) {
+            this.pdf = pdf;
+            this.util = util;
+            this.renderizador = new RenderizadorPuntos(pdf);
+            this.canvas = new PdfCanvas(pdf.getPage(pagina));
+            this.y = yInicial;
+        }
 
-            // Si ninguna fuente funcionó, se usa la fuente normal con estándar Marburg
-            if (!brailleAgregado) {
-                Paragraph textoBrailleParrafo = new Paragraph(textoBraille)
-                        .setFont(fontBold)
-                        .setFontSize(TAMANO_FUENTE_BRAILLE)
-                        .setFixedLeading(ESPACIADO_ENTRE_LINEAS_MM * MM_TO_POINTS)
-                        .setTextAlignment(TextAlignment.CENTER)
-                        .setCharacterSpacing(ESPACIADO_ENTRE_CARACTERES_MM * MM_TO_POINTS * 0.15f);
-                document.add(textoBrailleParrafo);
+        @Override
+        public void linea(char[] celdas, int longitud) {
+            if (y - RenderizadorPuntos.ALTO_CELDA < util.getBottom()) {
+                canvas.release();
+                canvas = new PdfCanvas(pdf.addNewPage(PageSize.A4));
+                y = util.getTop();
             }
+            float x = util.getLeft() + (util.getWidth() - RenderizadorPuntos.anchoLinea(longitud)) / 2;
+            renderizador.dibujarLinea(canvas, celdas, longitud, x, y);
+            y -= RenderizadorPuntos.PASO_LINEA;
+        }
 
-        } finally {
-            document.close();
+        void terminar() {
+            canvas.release();
         }
     }
 }
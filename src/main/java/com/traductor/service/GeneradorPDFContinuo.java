@@ -0,0 +1,247 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+
+/**
+ * Genera PDF de textos Braille de cualquier longitud con memoria constante.
+ * A diferencia de {@link GeneradorPDF}, no usa el motor de maquetación de
+ * iText: coloca el texto en una cuadrícula fija de celdas por línea y líneas
+ * por página (calculada a partir de A4, los márgenes y las medidas Marburg
+ * Medium) y escribe cada página en el archivo en cuanto se completa.
+ *
+ * <p>Recibe el texto Braille como {@link Appendable}, así que se puede
+ * encadenar directamente con la traducción por flujo:</p>
+ * <pre>
+ * try (GeneradorPDFContinuo pdf = new GeneradorPDFContinuo(ruta, modo, -1, null)) {
+ *     traductor.traducir(lector, pdf);
+ * }
+ * </pre>
+ *
+ * <p>El PDF solo lleva el Braille, sin el texto original como título. La
+ * consola, el servidor y la exportación de la interfaz lo usan para los
+ * textos de más de {@link #UMBRAL_CARACTERES} caracteres.</p>
+ *
+ * <p>En modo {@link GeneradorPDF.ModoRenderizado#FUENTE} se usa la fuente del
+ * {@link RegistroFuentes}; si no hay ninguna con glifos Braille se dibujan
+ * los puntos. No es seguro para uso concurrente.</p>
+ *
+ * @see GeneradorPDF
+ */
+public class GeneradorPDFContinuo implements Appendable, Closeable {
+
+    /**
+     * Caracteres a partir de los cuales se usa este generador en lugar de
+     * {@link GeneradorPDF}, que maqueta el documento entero en memoria y pone
+     * el texto original completo como título.
+     */
+    public static final int UMBRAL_CARACTERES = 64 * 1024;
+
+    private static final int TAMANO_BLOQUE = 8192;
+
+    private final PdfDocument pdf;
+    private final Rectangle util;
+    private final int celdasPorLinea;
+    private final int lineasPorPagina;
+    private final float xInicial;
+    private final DivisorLineas divisor;
+    private final RenderizadorCeldas renderizador;
+
+    private final long total;
+    private final ProgresoExportacion progreso;
+    private long procesados;
+
+    private PdfPage pagina;
+    private PdfCanvas canvas;
+    private int lineaActual;
+    private boolean cerrado;
+
+    /**
+     * Inicializa el generador escribiendo en un archivo.
+     *
+     * @param rutaDestino La ruta donde se guardará el archivo PDF.
+     * @param modo        La forma de dibujar el Braille.
+     * @param total       Caracteres totales que se van a agregar, o -1 si no se conocen.
+     * @param progreso    Quien recibe el avance al terminar cada página (puede ser null).
+     * @throws IOException Si no se puede crear el archivo.
+     */
+    public GeneradorPDFContinuo(String rutaDestino, GeneradorPDF.ModoRenderizado modo, long total,
+                                ProgresoExportacion progreso) throws IOException {
+        this(new PdfWriter(new File(rutaDestino)), modo, total, progreso);
+    }
+
+    /**
+     * Inicializa el generador escribiendo en un flujo, que se cierra al terminar.
+     *
+     * @param salida   El flujo donde se escribe el PDF.
+     * @param modo     La forma de dibujar el Braille.
+     * @param total    Caracteres totales que se van a agregar, o -1 si no se conocen.
+     * @param progreso Quien recibe el avance al terminar cada página (puede ser null).
+     */
+    public GeneradorPDFContinuo(OutputStream salida, GeneradorPDF.ModoRenderizado modo, long total,
+                                ProgresoExportacion progreso) {
+        this(new PdfWriter(salida), modo, total, progreso);
+    }
+
+    private GeneradorPDFContinuo(PdfWriter writer, GeneradorPDF.ModoRenderizado modo, long total,
+                                 ProgresoExportacion progreso) {
+        this.pdf = new PdfDocument(writer);
+        this.total = total;
+        this.progreso = progreso;
+
+        float margen = GeneradorPDF.MARGEN;
+        this.util = PageSize.A4.clone().applyMargins(margen, margen, margen, margen, false);
+        this.celdasPorLinea = RenderizadorPuntos.celdasEnAncho(util.getWidth());
+        this.lineasPorPagina = Math.max(1,
+                (int) ((util.getHeight() - RenderizadorPuntos.ALTO_CELDA) / RenderizadorPuntos.PASO_LINEA) + 1);
+        // La cuadrícula se centra en la página; las líneas se alinean a su izquierda
+        this.xInicial = util.getLeft()
+                + (util.getWidth() - RenderizadorPuntos.anchoLinea(celdasPorLinea)) / 2;
+
+        this.renderizador = RenderizadorCeldas.crear(pdf, modo);
+        this.divisor = new DivisorLineas(celdasPorLinea, this::dibujarLinea);
+    }
+
+    /**
+     * Genera el PDF de un texto Braille leído por flujo.
+     *
+     * @param textoBraille El lector con el texto traducido a símbolos Braille.
+     * @param total        Caracteres totales del texto, o -1 si no se conocen.
+     * @param rutaDestino  La ruta donde se guardará el archivo PDF.
+     * @param modo         La forma de dibujar el Braille.
+     * @param progreso     Quien recibe el avance (puede ser null).
+     * @throws IOException Si ocurre un error al leer o escribir.
+     */
+    public static void generarPDF(Reader textoBraille, long total, String rutaDestino,
+                                  GeneradorPDF.ModoRenderizado modo, ProgresoExportacion progreso) throws IOException {
+        try (GeneradorPDFContinuo generador = new GeneradorPDFContinuo(rutaDestino, modo, total, progreso)) {
+            char[] bloque = new char[TAMANO_BLOQUE];
+            int leidos;
+            while ((leidos = textoBraille.read(bloque)) != -1) {
+                for (int i = 0; i < leidos; i++) {
+                    generador.agregar(bloque[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Número de celdas de cada línea de la cuadrícula.
+     */
+    public int getCeldasPorLinea() {
+        return celdasPorLinea;
+    }
+
+    /**
+     * @return Número de líneas de cada página de la cuadrícula.
+     */
+    public int getLineasPorPagina() {
+        return lineasPorPagina;
+    }
+
+    @Override
+    public Appendable append(CharSequence texto) throws IOException {
+        return append(texto, 0, texto.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence texto, int inicio, int fin) throws IOException {
+        for (int i = inicio; i < fin; i++) {
+            agregar(texto.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        agregar(c);
+        return this;
+    }
+
+    /**
+     * Termina la última página, informa del avance final y cierra el documento.
+     *
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            divisor.terminar();
+            if (pagina == null) {
+                // Un PDF sin páginas no es válido
+                nuevaPagina();
+            }
+            terminarPagina();
+        } finally {
+            pdf.close();
+        }
+    }
+
+    /**
+     * Agrega un carácter Braille al documento.
+     *
+     * @param c El carácter a agregar.
+     * @throws IOException Si ocurre un error al escribir una página.
+     */
+    private void agregar(char c) throws IOException {
+        if (cerrado) {
+            throw new IOException("El PDF ya está cerrado");
+        }
+        procesados++;
+        divisor.agregar(c);
+    }
+
+    /**
+     * Dibuja una línea en la siguiente fila de la cuadrícula.
+     *
+     * @param celdas   Las celdas de la línea.
+     * @param longitud Número de celdas válidas.
+     */
+    private void dibujarLinea(char[] celdas, int longitud) {
+        if (pagina == null || lineaActual == lineasPorPagina) {
+            terminarPagina();
+            nuevaPagina();
+        }
+        float yArriba = util.getTop() - lineaActual * RenderizadorPuntos.PASO_LINEA;
+        lineaActual++;
+        renderizador.dibujarLinea(canvas, celdas, longitud, xInicial, yArriba);
+    }
+
+    /**
+     * Agrega una página vacía y prepara su lienzo.
+     */
+    private void nuevaPagina() {
+        pagina = pdf.addNewPage(PageSize.A4);
+        canvas = new PdfCanvas(pagina);
+        lineaActual = 0;
+    }
+
+    /**
+     * Escribe la página en curso en el archivo y libera su contenido.
+     * Los patrones de puntos y la fuente se conservan para las páginas siguientes.
+     */
+    private void terminarPagina() {
+        if (pagina == null) {
+            return;
+        }
+        canvas.release();
+        pagina.flush();
+        if (progreso != null) {
+            progreso.actualizar(procesados, total);
+        }
+    }
+}
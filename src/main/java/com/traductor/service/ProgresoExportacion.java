@@ -0,0 +1,20 @@
+package com.traductor.service;
+
+/**
+ * Recibe el avance de una exportación larga.
+ *
+ * @see GeneradorPDF
+ * @see GeneradorPDFContinuo
+ * @see GeneradorEtiquetas
+ */
+@FunctionalInterface
+public interface ProgresoExportacion {
+
+    /**
+     * Informa del avance de la exportación.
+     *
+     * @param procesados Elementos procesados hasta ahora (caracteres, etiquetas o páginas, según la exportación).
+     * @param total      Elementos totales, o -1 si no se conocen.
+     */
+    void actualizar(long procesados, long total);
+}
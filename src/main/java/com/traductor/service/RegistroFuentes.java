@@ -0,0 +1,201 @@
+package com.traductor.service;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registro de las fuentes usadas en los PDF.
+ * Busca y analiza la fuente con glifos Braille una sola vez por JVM; cada
+ * documento crea a partir de ella su propia {@link PdfFont}, que incrusta
+ * solo el subconjunto de glifos que usa.
+ *
+ * <p>La fuente se busca, en este orden, en las rutas de la propiedad del
+ * sistema {@value #PROPIEDAD_RUTAS} (separadas por {@link File#pathSeparator}),
+ * en el recurso {@value #RECURSO_FUENTE} y en las rutas habituales de
+ * Windows, Linux y macOS. Solo se aceptan fuentes que contienen los glifos
+ * del bloque Braille Unicode.</p>
+ *
+ * @see GeneradorPDF
+ */
+public final class RegistroFuentes {
+    /**
+     * Propiedad del sistema con rutas adicionales de fuentes Braille.
+     */
+    public static final String PROPIEDAD_RUTAS = "traductor.fuentes.braille";
+
+    /**
+     * Recurso del classpath con una fuente Braille empaquetada (opcional).
+     */
+    public static final String RECURSO_FUENTE = "/com/traductor/fuentes/braille.ttf";
+
+    private static final String[] RUTAS_SISTEMA = {
+            "C:/Windows/Fonts/seguisym.ttf", // Segoe UI Symbol
+            "C:/Windows/Fonts/arialuni.ttf", // Arial Unicode MS
+            "C:/Windows/Fonts/DejaVuSans.ttf", // DejaVu Sans
+            "/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf",
+            "/usr/share/fonts/dejavu/DejaVuSans.ttf",
+            "/usr/share/fonts/TTF/DejaVuSans.ttf",
+            "/usr/share/fonts/dejavu-sans-fonts/DejaVuSans.ttf",
+            "/usr/share/fonts/truetype/noto/NotoSansSymbols2-Regular.ttf",
+            "/usr/share/fonts/truetype/freefont/FreeSerif.ttf",
+            "/System/Library/Fonts/Apple Braille.ttf",
+            "/Library/Fonts/Arial Unicode.ttf"
+    };
+
+    // Celda Braille usada para comprobar que la fuente tiene los glifos
+    private static final int CELDA_PRUEBA = 0x283F;
+
+    private RegistroFuentes() {
+    }
+
+    /**
+     * Carga perezosa y segura entre hilos de los programas de fuente.
+     */
+    private static class Contenedor {
+        private static final Fuente BRAILLE = buscarFuenteBraille();
+        private static final FontProgram TITULO = cargarTitulo();
+    }
+
+    /**
+     * Crea la fuente Braille para un documento nuevo.
+     *
+     * @return La fuente, o null si no hay ninguna fuente con glifos Braille.
+     */
+    public static PdfFont crearFuenteBraille() {
+        Fuente fuente = Contenedor.BRAILLE;
+        if (fuente == null) {
+            return null;
+        }
+        return PdfFontFactory.createFont(fuente.programa, PdfEncodings.IDENTITY_H,
+                PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+    }
+
+    /**
+     * Crea la fuente del texto original (Helvetica negrita) para un documento nuevo.
+     *
+     * @return La fuente del título.
+     * @throws IOException Si no se puede crear la fuente.
+     */
+    public static PdfFont crearFuenteTitulo() throws IOException {
+        FontProgram programa = Contenedor.TITULO;
+        if (programa == null) {
+            return PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        }
+        return PdfFontFactory.createFont(programa, PdfEncodings.WINANSI);
+    }
+
+    /**
+     * Obtiene el origen de la fuente Braille elegida, para diagnóstico.
+     *
+     * @return La ruta o recurso de la fuente, o null si no se encontró ninguna.
+     */
+    public static String getOrigenFuenteBraille() {
+        Fuente fuente = Contenedor.BRAILLE;
+        return fuente != null ? fuente.origen : null;
+    }
+
+    /**
+     * Busca la primera fuente disponible con glifos Braille.
+     *
+     * @return La fuente encontrada o null.
+     */
+    private static Fuente buscarFuenteBraille() {
+        List<String> rutas = new ArrayList<>();
+        String configuradas = System.getProperty(PROPIEDAD_RUTAS);
+        if (configuradas != null && !configuradas.isBlank()) {
+            for (String ruta : configuradas.split(File.pathSeparator)) {
+                rutas.add(ruta.trim());
+            }
+        }
+
+        for (String ruta : rutas) {
+            Fuente fuente = cargarArchivo(ruta);
+            if (fuente != null) {
+                return fuente;
+            }
+        }
+
+        try (InputStream recurso = RegistroFuentes.class.getResourceAsStream(RECURSO_FUENTE)) {
+            if (recurso != null) {
+                FontProgram programa = FontProgramFactory.createFont(recurso.readAllBytes());
+                if (tieneGlifosBraille(programa)) {
+                    return new Fuente(programa, RECURSO_FUENTE);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Continuar con las fuentes del sistema
+        }
+
+        for (String ruta : RUTAS_SISTEMA) {
+            Fuente fuente = cargarArchivo(ruta);
+            if (fuente != null) {
+                return fuente;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Carga una fuente desde un archivo si existe y tiene glifos Braille.
+     *
+     * @param ruta La ruta del archivo de fuente.
+     * @return La fuente cargada o null.
+     */
+    private static Fuente cargarArchivo(String ruta) {
+        if (ruta.isEmpty() || !new File(ruta).isFile()) {
+            return null;
+        }
+        try {
+            FontProgram programa = FontProgramFactory.createFont(ruta);
+            return tieneGlifosBraille(programa) ? new Fuente(programa, ruta) : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifica que la fuente contiene los glifos del bloque Braille.
+     *
+     * @param programa El programa de fuente.
+     * @return true si tiene glifos Braille.
+     */
+    private static boolean tieneGlifosBraille(FontProgram programa) {
+        return programa.getGlyph(CELDA_PRUEBA) != null;
+    }
+
+    /**
+     * Carga el programa de la fuente Helvetica negrita.
+     *
+     * @return El programa de fuente o null si no se pudo cargar.
+     */
+    private static FontProgram cargarTitulo() {
+        try {
+            return FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Programa de fuente y su origen.
+     */
+    private static class Fuente {
+        private final FontProgram programa;
+        private final String origen;
+
+        Fuente(FontProgram programa, String origen) {
+            this.programa = programa;
+            this.origen = origen;
+        }
+    }
+}
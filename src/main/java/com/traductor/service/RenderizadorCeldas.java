@@ -0,0 +1,48 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+/**
+ * Dibuja líneas de celdas Braille con el paso de celda Marburg Medium.
+ * Cada documento usa un solo renderizador, que comparte entre todas las
+ * páginas la fuente o los patrones de puntos.
+ */
+interface RenderizadorCeldas {
+
+    /**
+     * Dibuja una línea de celdas a partir de una posición.
+     * Se dibuja todo el bloque Braille U+2800 a U+28FF, incluidas las celdas
+     * de 8 puntos, cuyos puntos 7 y 8 quedan debajo de la celda de 6 puntos;
+     * la celda vacía y los espacios no dibujan nada. Los caracteres que no
+     * son Braille, como '#' o '%', se dibujan con la fuente del título en el
+     * lugar de una celda (ver {@link CaracteresSinCelda}).
+     *
+     * @param canvas   El lienzo de la página.
+     * @param celdas   Las celdas a dibujar.
+     * @param longitud Número de celdas válidas.
+     * @param x        Borde izquierdo de la primera celda.
+     * @param yArriba  Borde superior de la línea.
+     */
+    void dibujarLinea(PdfCanvas canvas, char[] celdas, int longitud, float x, float yArriba);
+
+    /**
+     * Crea el renderizador de un documento para el modo indicado.
+     * En modo {@link GeneradorPDF.ModoRenderizado#FUENTE} sin ninguna fuente
+     * Braille disponible se dibujan los puntos.
+     *
+     * @param pdf  El documento.
+     * @param modo La forma de dibujar el Braille.
+     * @return El renderizador.
+     */
+    static RenderizadorCeldas crear(PdfDocument pdf, GeneradorPDF.ModoRenderizado modo) {
+        if (modo == GeneradorPDF.ModoRenderizado.FUENTE) {
+            PdfFont fuente = RegistroFuentes.crearFuenteBraille();
+            if (fuente != null) {
+                return new RenderizadorFuente(fuente);
+            }
+        }
+        return new RenderizadorPuntos(pdf);
+    }
+}
@@ -0,0 +1,65 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+/**
+ * Dibuja celdas Braille como glifos U+28xx de una fuente incrustada,
+ * ajustando el espaciado para que cada celda avance exactamente el paso
+ * Marburg Medium. Los caracteres que no son Braille se dibujan con
+ * {@link CaracteresSinCelda}.
+ *
+ * @see RenderizadorPuntos
+ */
+class RenderizadorFuente implements RenderizadorCeldas {
+
+    private final PdfFont fuente;
+    private final float espaciado;
+    private final CaracteresSinCelda sinCelda = new CaracteresSinCelda();
+    private char[] linea = new char[0];
+
+    /**
+     * Inicializa el renderizador con la fuente Braille de un documento.
+     *
+     * @param fuente La fuente con glifos Braille.
+     */
+    RenderizadorFuente(PdfFont fuente) {
+        this.fuente = fuente;
+        // Los glifos Braille tienen todos el mismo avance
+        this.espaciado = RenderizadorPuntos.PASO_CELDA
+                - fuente.getWidth(DivisorLineas.CELDA_VACIA, GeneradorPDF.TAMANO_FUENTE_BRAILLE);
+    }
+
+    @Override
+    public void dibujarLinea(PdfCanvas canvas, char[] celdas, int longitud, float x, float yArriba) {
+        if (longitud == 0) {
+            return;
+        }
+        if (linea.length < longitud) {
+            linea = new char[longitud];
+        }
+        boolean hayOtros = false;
+        for (int i = 0; i < longitud; i++) {
+            char c = celdas[i];
+            if (c >= '\u2800' && c <= '\u28FF') {
+                linea[i] = c;
+            } else {
+                linea[i] = DivisorLineas.CELDA_VACIA;
+                hayOtros = true;
+            }
+        }
+        canvas.beginText()
+                .setFontAndSize(fuente, GeneradorPDF.TAMANO_FUENTE_BRAILLE)
+                .setCharacterSpacing(espaciado)
+                .moveText(x, yArriba - RenderizadorPuntos.ALTO_CELDA)
+                .showText(new String(linea, 0, longitud))
+                .endText();
+        if (hayOtros) {
+            for (int i = 0; i < longitud; i++) {
+                if (!CaracteresSinCelda.esCeldaOBlanco(celdas[i])) {
+                    sinCelda.dibujar(canvas, celdas[i], x + i * RenderizadorPuntos.PASO_CELDA, yArriba);
+                }
+            }
+        }
+    }
+}
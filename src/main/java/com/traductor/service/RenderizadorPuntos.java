@@ -0,0 +1,140 @@
+package com.traductor.service;
+
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.traductor.model.SimboloBraille;
+
+/**
+ * Dibuja celdas Braille como círculos rellenos, con la geometría Marburg
+ * Medium definida en {@link GeneradorPDF}. Cada patrón de puntos se crea
+ * una sola vez por documento como Form XObject (como máximo 256) y se
+ * reutiliza en todas las celdas iguales, sin incrustar ninguna fuente. Las
+ * celdas de 8 puntos dibujan los puntos 7 y 8 en una cuarta fila, debajo
+ * del alto de la celda de 6 puntos. Los caracteres que no son Braille se
+ * dibujan con {@link CaracteresSinCelda}.
+ *
+ * @see RenderizadorFuente
+ */
+class RenderizadorPuntos implements RenderizadorCeldas {
+
+    /**
+     * Ancho de una celda dibujada, en puntos.
+     */
+    static final float ANCHO_CELDA = (GeneradorPDF.DISTANCIA_ENTRE_PUNTOS_MM + GeneradorPDF.DIAMETRO_PUNTO_MM)
+            * GeneradorPDF.MM_TO_POINTS;
+
+    /**
+     * Alto de una celda dibujada, en puntos.
+     */
+    static final float ALTO_CELDA = (2 * GeneradorPDF.DISTANCIA_ENTRE_PUNTOS_MM + GeneradorPDF.DIAMETRO_PUNTO_MM)
+            * GeneradorPDF.MM_TO_POINTS;
+
+    /**
+     * Distancia entre el inicio de una celda y el de la siguiente, en puntos.
+     */
+    static final float PASO_CELDA = GeneradorPDF.ESPACIADO_ENTRE_CARACTERES_MM * GeneradorPDF.MM_TO_POINTS;
+
+    /**
+     * Distancia entre el inicio de una línea y el de la siguiente, en puntos.
+     */
+    static final float PASO_LINEA = GeneradorPDF.ESPACIADO_ENTRE_LINEAS_MM * GeneradorPDF.MM_TO_POINTS;
+
+    private static final int PATRONES = 256;
+
+    private final PdfDocument pdf;
+    private final PdfFormXObject[] patrones = new PdfFormXObject[PATRONES];
+    private final CaracteresSinCelda sinCelda = new CaracteresSinCelda();
+
+    /**
+     * Inicializa el renderizador para un documento.
+     *
+     * @param pdf El documento en el que se crean los patrones.
+     */
+    RenderizadorPuntos(PdfDocument pdf) {
+        this.pdf = pdf;
+    }
+
+    /**
+     * Calcula cuántas celdas caben en un ancho dado.
+     *
+     * @param ancho El ancho disponible en puntos.
+     * @return El número de celdas (al menos una).
+     */
+    static int celdasEnAncho(float ancho) {
+        return Math.max(1, (int) ((ancho - ANCHO_CELDA) / PASO_CELDA) + 1);
+    }
+
+    /**
+     * Calcula el ancho que ocupa una línea de celdas.
+     *
+     * @param celdas El número de celdas.
+     * @return El ancho en puntos.
+     */
+    static float anchoLinea(int celdas) {
+        return celdas == 0 ? 0 : (celdas - 1) * PASO_CELDA + ANCHO_CELDA;
+    }
+
+    @Override
+    public void dibujarLinea(PdfCanvas canvas, char[] celdas, int longitud, float x, float yArriba) {
+        // Una sola traslación por línea y desplazamientos relativos entre celdas:
+        // cada celda ocupa "dx 0 cm /Fm Do" en el flujo de contenido
+        canvas.saveState();
+        canvas.concatMatrix(1, 0, 0, 1, x, yArriba - ALTO_CELDA);
+        int anterior = 0;
+        for (int i = 0; i < longitud; i++) {
+            char c = celdas[i];
+            int patron = c - 0x2800;
+            boolean esPatron = patron > 0 && patron < PATRONES;
+            if (esPatron || !CaracteresSinCelda.esCeldaOBlanco(c)) {
+                if (i != anterior) {
+                    canvas.concatMatrix(1, 0, 0, 1, (i - anterior) * PASO_CELDA, 0);
+                    anterior = i;
+                }
+                if (esPatron) {
+                    canvas.addXObject(obtenerPatron(patron));
+                } else {
+                    sinCelda.dibujar(canvas, c, 0, ALTO_CELDA);
+                }
+            }
+        }
+        canvas.restoreState();
+    }
+
+    /**
+     * Obtiene (creándolo la primera vez) el Form XObject de un patrón.
+     *
+     * @param patron Los puntos activos: punto1=bit0 ... punto8=bit7.
+     * @return El Form XObject del patrón.
+     */
+    private PdfFormXObject obtenerPatron(int patron) {
+        PdfFormXObject xobject = patrones[patron];
+        if (xobject == null) {
+            SimboloBraille simbolo = SimboloBraille.obtener(patron);
+            float radio = GeneradorPDF.DIAMETRO_PUNTO_MM * GeneradorPDF.MM_TO_POINTS / 2;
+            float distancia = GeneradorPDF.DISTANCIA_ENTRE_PUNTOS_MM * GeneradorPDF.MM_TO_POINTS;
+            // La cuarta fila (puntos 7 y 8) queda por debajo del origen
+            Rectangle caja = simbolo.esDeSeisPuntos()
+                    ? new Rectangle(ANCHO_CELDA, ALTO_CELDA)
+                    : new Rectangle(0, -distancia, ANCHO_CELDA, ALTO_CELDA + distancia);
+            xobject = new PdfFormXObject(caja);
+            PdfCanvas canvas = new PdfCanvas(xobject, pdf);
+            for (int punto = 1; punto <= SimboloBraille.MAX_PUNTOS; punto++) {
+                if (simbolo.isPuntoActivado(punto)) {
+                    // Puntos 1-3 en la columna izquierda y 4-6 en la derecha, de arriba
+                    // abajo; el 7 y el 8 debajo de cada columna
+                    int columna = punto <= 6 ? (punto - 1) / 3 : punto - 7;
+                    int fila = punto <= 6 ? (punto - 1) % 3 : 3;
+                    float cx = radio + columna * distancia;
+                    float cy = ALTO_CELDA - radio - fila * distancia;
+                    canvas.circle(cx, cy, radio);
+                }
+            }
+            canvas.fill();
+            canvas.release();
+            patrones[patron] = xobject;
+        }
+        return xobject;
+    }
+}
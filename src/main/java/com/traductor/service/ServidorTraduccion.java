@@ -0,0 +1,419 @@
+package com.traductor.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.traductor.metricas.Metricas;
+import com.traductor.model.ITraductor;
+import com.traductor.model.TraductorBraille;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servidor HTTP embebido para usar el traductor desde otras herramientas.
+ * Usa el {@link HttpServer} del JDK con un hilo virtual por petición cuando
+ * la JVM los soporta (Java 21 o superior) y un grupo de hilos en otro caso.
+ *
+ * <ul>
+ *     <li>{@code POST /translate}: texto UTF-8 en el cuerpo, Braille en la respuesta (por flujo).</li>
+ *     <li>{@code POST /pdf}: texto UTF-8 en el cuerpo, PDF generado con {@link GeneradorPDF}
+ *     o copiado de una {@link CachePDF} si el servidor tiene una. Los cuerpos de más de
+ *     {@link GeneradorPDFContinuo#UMBRAL_CARACTERES} bytes se traducen por flujo a un
+ *     {@link GeneradorPDFContinuo}, sin caché.</li>
+ *     <li>{@code GET /metrics}: contadores de peticiones en texto plano.</li>
+ * </ul>
+ *
+ * <p>Los errores responden 500 con un mensaje fijo y se registran en la
+ * salida de error. {@code /translate} envía las cabeceras con el primer
+ * bloque de la traducción (unos 8 KB): si falla antes, la respuesta es un
+ * 500; si falla después, el estado 200 ya se envió y la respuesta termina
+ * con la línea {@code ERROR: traduccion interrumpida}, que nunca aparece en una
+ * traducción porque sus letras se traducirían a Braille.</p>
+ *
+ * @see ITraductor
+ */
+public class ServidorTraduccion {
+
+    private static final int PUERTO_POR_DEFECTO = 8080;
+    private static final int BACKLOG = 4096;
+    private static final String TIPO_TEXTO = "text/plain; charset=utf-8";
+    private static final String MENSAJE_ERROR = "Error interno del servidor\n";
+    private static final String MARCA_ERROR_FLUJO = "ERROR: traduccion interrumpida";
+
+    private final ITraductor traductor;
+    // null si los PDF se generan siempre
+    private final CachePDF cachePDF;
+    private final HttpServer servidor;
+    private final ExecutorService ejecutor;
+
+    private final Metrica metricaTraduccion = new Metrica();
+    private final Metrica metricaPDF = new Metrica();
+    private final LongAdder caracteresTraducidos = new LongAdder();
+
+    /**
+     * Crea el servidor sin iniciarlo.
+     *
+     * @param traductor El traductor compartido por todas las peticiones.
+     * @param puerto    El puerto de escucha (0 para uno libre).
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public ServidorTraduccion(ITraductor traductor, int puerto) throws IOException {
+        this(traductor, puerto, null);
+    }
+
+    /**
+     * Crea el servidor sin iniciarlo, con una caché de PDF.
+     *
+     * @param traductor El traductor compartido por todas las peticiones.
+     * @param puerto    El puerto de escucha (0 para uno libre).
+     * @param cachePDF  La caché de los PDF generados, o null para no usar ninguna.
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public ServidorTraduccion(ITraductor traductor, int puerto, CachePDF cachePDF) throws IOException {
+        this.traductor = traductor;
+        this.cachePDF = cachePDF;
+        this.servidor = HttpServer.create(new InetSocketAddress(puerto), BACKLOG);
+        this.ejecutor = crearEjecutor();
+        servidor.setExecutor(ejecutor);
+        servidor.createContext("/translate", medir(metricaTraduccion, this::traducir));
+        servidor.createContext("/pdf", medir(metricaPDF, this::generarPDF));
+        servidor.createContext("/metrics", this::mostrarMetricas);
+    }
+
+    /**
+     * Inicia el servidor.
+     */
+    public void iniciar() {
+        servidor.start();
+    }
+
+    /**
+     * Detiene el servidor esperando como máximo un segundo a las peticiones en curso.
+     */
+    public void detener() {
+        servidor.stop(1);
+        ejecutor.shutdown();
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return El puerto de escucha.
+     */
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Crea un ejecutor de hilos virtuales si la JVM lo permite.
+     *
+     * @return El ejecutor para atender las peticiones.
+     */
+    private static ExecutorService crearEjecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() existe desde Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Traduce el cuerpo de la petición y lo devuelve por flujo.
+     *
+     * @param intercambio La petición HTTP.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private void traducir(HttpExchange intercambio) throws IOException {
+        if (!exigirPost(intercambio)) {
+            return;
+        }
+        CuerpoDiferido cuerpo = new CuerpoDiferido(intercambio);
+        Writer salida = new BufferedWriter(new OutputStreamWriter(cuerpo, StandardCharsets.UTF_8));
+        try (Reader entrada = new InputStreamReader(intercambio.getRequestBody(), StandardCharsets.UTF_8)) {
+            traductor.traducir(entrada, new SalidaContada(salida));
+        } catch (IOException | RuntimeException e) {
+            if (cuerpo.isIniciado()) {
+                // El estado 200 ya se envió: se marca el final del cuerpo como truncado
+                try {
+                    salida.write("\n" + MARCA_ERROR_FLUJO + "\n");
+                    salida.close();
+                } catch (IOException ignorada) {
+                    // El cliente ya no está conectado
+                }
+            }
+            throw e;
+        }
+        salida.close();
+    }
+
+    /**
+     * Genera el PDF del cuerpo de la petición y lo devuelve.
+     *
+     * @param intercambio La petición HTTP.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private void generarPDF(HttpExchange intercambio) throws IOException {
+        if (!exigirPost(intercambio)) {
+            return;
+        }
+        Path temporal = Files.createTempFile("traductor_braille_", ".pdf");
+        try (InputStream cuerpo = intercambio.getRequestBody()) {
+            // Solo se lee entero un cuerpo por debajo del umbral
+            byte[] inicio = cuerpo.readNBytes(GeneradorPDFContinuo.UMBRAL_CARACTERES + 1);
+            if (inicio.length > GeneradorPDFContinuo.UMBRAL_CARACTERES) {
+                try (Reader entrada = new InputStreamReader(
+                        new SequenceInputStream(new ByteArrayInputStream(inicio), cuerpo), StandardCharsets.UTF_8);
+                     GeneradorPDFContinuo pdf = new GeneradorPDFContinuo(temporal.toString(),
+                             GeneradorPDF.ModoRenderizado.FUENTE, -1, null)) {
+                    traductor.traducir(entrada, new SalidaContada(pdf));
+                }
+            } else {
+                String textoOriginal = new String(inicio, StandardCharsets.UTF_8);
+                String textoBraille = traductor.traducir(textoOriginal);
+                caracteresTraducidos.add(textoBraille.length());
+                if (cachePDF != null) {
+                    cachePDF.generarPDF(textoOriginal, textoBraille, temporal.toString());
+                } else {
+                    GeneradorPDF.generarPDF(textoOriginal, textoBraille, temporal.toString());
+                }
+            }
+            intercambio.getResponseHeaders().set("Content-Type", "application/pdf");
+            intercambio.sendResponseHeaders(200, Files.size(temporal));
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                Files.copy(temporal, salida);
+            }
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Devuelve las métricas del servidor en texto plano.
+     *
+     * @param intercambio La petición HTTP.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private void mostrarMetricas(HttpExchange intercambio) throws IOException {
+        StringBuilder texto = new StringBuilder();
+        metricaTraduccion.escribir("translate", texto);
+        metricaPDF.escribir("pdf", texto);
+        texto.append("caracteres_traducidos ").append(caracteresTraducidos.sum()).append('\n');
+        if (cachePDF != null) {
+            texto.append("pdf_cache_aciertos ").append(cachePDF.getAciertos()).append('\n');
+            texto.append("pdf_cache_fallos ").append(cachePDF.getFallos()).append('\n');
+            texto.append("pdf_cache_desalojos ").append(cachePDF.getDesalojos()).append('\n');
+            texto.append("pdf_cache_tasa_aciertos ").append(cachePDF.getTasaAciertos()).append('\n');
+            texto.append("pdf_cache_bytes ").append(cachePDF.getTamano()).append('\n');
+        }
+        responder(intercambio, 200, texto.toString());
+    }
+
+    /**
+     * Responde 405 si la petición no es POST.
+     *
+     * @param intercambio La petición HTTP.
+     * @return true si la petición es POST.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private boolean exigirPost(HttpExchange intercambio) throws IOException {
+        if ("POST".equals(intercambio.getRequestMethod())) {
+            return true;
+        }
+        intercambio.getResponseHeaders().set("Allow", "POST");
+        responder(intercambio, 405, "Use POST con el texto en el cuerpo\n");
+        return false;
+    }
+
+    /**
+     * Envía una respuesta de texto completa.
+     *
+     * @param intercambio La petición HTTP.
+     * @param estado      El código de estado HTTP.
+     * @param texto       El cuerpo de la respuesta.
+     * @throws IOException Si ocurre un error de E/S.
+     */
+    private static void responder(HttpExchange intercambio, int estado, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", TIPO_TEXTO);
+        intercambio.sendResponseHeaders(estado, bytes.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(bytes);
+        }
+    }
+
+    /**
+     * Envuelve un manejador para registrar peticiones, errores y tiempos.
+     *
+     * @param metrica  La métrica del endpoint.
+     * @param manejador El manejador a envolver.
+     * @return El manejador instrumentado.
+     */
+    private static HttpHandler medir(Metrica metrica, HttpHandler manejador) {
+        return intercambio -> {
+            long inicio = System.nanoTime();
+            metrica.enCurso.increment();
+            try {
+                manejador.handle(intercambio);
+            } catch (Exception e) {
+                metrica.errores.increment();
+                System.err.println("Error al atender " + intercambio.getRequestMethod() + " "
+                        + intercambio.getRequestURI() + ": " + e);
+                // El detalle no se envía al cliente: puede incluir rutas internas
+                if (intercambio.getResponseCode() == -1) {
+                    try {
+                        responder(intercambio, 500, MENSAJE_ERROR);
+                    } catch (IOException | RuntimeException ignorada) {
+                        // El cliente ya no está conectado; solo queda cerrar
+                    }
+                }
+            } finally {
+                metrica.enCurso.decrement();
+                metrica.peticiones.increment();
+                metrica.nanosTotales.add(System.nanoTime() - inicio);
+                intercambio.close();
+            }
+        };
+    }
+
+    /**
+     * Contadores de un endpoint.
+     */
+    private static class Metrica {
+        private final LongAdder peticiones = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder enCurso = new LongAdder();
+        private final LongAdder nanosTotales = new LongAdder();
+
+        void escribir(String nombre, StringBuilder texto) {
+            long total = peticiones.sum();
+            texto.append(nombre).append("_peticiones ").append(total).append('\n');
+            texto.append(nombre).append("_errores ").append(errores.sum()).append('\n');
+            texto.append(nombre).append("_en_curso ").append(enCurso.sum()).append('\n');
+            texto.append(nombre).append("_latencia_media_ms ")
+                    .append(total == 0 ? 0.0 : nanosTotales.sum() / 1e6 / total).append('\n');
+        }
+    }
+
+    /**
+     * Cuerpo de una respuesta por bloques que envía las cabeceras (estado 200)
+     * con el primer byte, para que un error anterior pueda responder 500.
+     */
+    private static final class CuerpoDiferido extends OutputStream {
+        private final HttpExchange intercambio;
+        private OutputStream destino;
+
+        CuerpoDiferido(HttpExchange intercambio) {
+            this.intercambio = intercambio;
+        }
+
+        /**
+         * @return true si las cabeceras ya se enviaron.
+         */
+        boolean isIniciado() {
+            return destino != null;
+        }
+
+        private OutputStream iniciar() throws IOException {
+            if (destino == null) {
+                intercambio.getResponseHeaders().set("Content-Type", TIPO_TEXTO);
+                // Longitud 0: respuesta por bloques, sin conocer el tamaño de antemano
+                intercambio.sendResponseHeaders(200, 0);
+                destino = intercambio.getResponseBody();
+            }
+            return destino;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            iniciar().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int inicio, int largo) throws IOException {
+            iniciar().write(b, inicio, largo);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Vaciar antes del primer byte enviaría las cabeceras sin necesidad
+            if (destino != null) {
+                destino.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iniciar().close();
+        }
+    }
+
+    /**
+     * Destino de la traducción que cuenta los caracteres escritos.
+     */
+    private class SalidaContada implements Appendable {
+        private final Appendable destino;
+
+        SalidaContada(Appendable destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        public Appendable append(CharSequence texto) throws IOException {
+            caracteresTraducidos.add(texto.length());
+            destino.append(texto);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence texto, int inicio, int fin) throws IOException {
+            caracteresTraducidos.add(fin - inicio);
+            destino.append(texto, inicio, fin);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            caracteresTraducidos.increment();
+            destino.append(c);
+            return this;
+        }
+    }
+
+    /**
+     * Método principal para ejecutar el servidor.
+     *
+     * @param args Puerto opcional (por defecto 8080) y directorio opcional de la caché de PDF.
+     * @throws IOException Si no se puede abrir el puerto o el directorio de la caché.
+     */
+    public static void main(String[] args) throws IOException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : PUERTO_POR_DEFECTO;
+        CachePDF cachePDF = args.length > 1 ? new CachePDF(Paths.get(args[1])) : null;
+        // Por defecto el JDK mantiene solo 200 conexiones keep-alive inactivas
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections", "4096");
+        }
+        Metricas.registrarMBean();
+        ServidorTraduccion servidor = new ServidorTraduccion(new TraductorBraille(), puerto, cachePDF);
+        Runtime.getRuntime().addShutdownHook(new Thread(servidor::detener));
+        servidor.iniciar();
+        System.out.println("Servidor de traducción escuchando en el puerto " + servidor.getPuerto());
+    }
+}
@@ -1,6 +1,7 @@
 package com.traductor.view;
 
 import com.traductor.controller.TraductorController;
+import com.traductor.metricas.Metricas;
 import com.traductor.model.TraductorBraille;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -25,11 +26,13 @@ public class App extends Application {
         TraductorBraille traductor = new TraductorBraille();
         controller.setTraductor(traductor);
 
-        // Configurar la escena y el escenario
-        Scene scene = new Scene(root, 650, 580);
+        // Configurar la escena y el escenario; la ventana se puede agrandar
+        // para ver más filas del visor de documentos
+        Scene scene = new Scene(root, 900, 680);
         primaryStage.setTitle("Traductor Braille");
         primaryStage.setScene(scene);
-        primaryStage.setResizable(false);
+        primaryStage.setMinWidth(650);
+        primaryStage.setMinHeight(580);
         primaryStage.show();
     }
 
@@ -39,6 +42,7 @@ public class App extends Application {
      * @param args Argumentos de la línea de comandos.
      */
     public static void main(String[] args) {
+        Metricas.registrarMBean();
         launch(args);
     }
 }
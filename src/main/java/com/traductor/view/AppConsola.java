@@ -0,0 +1,420 @@
+package com.traductor.view;
+
+import com.traductor.metricas.Metricas;
+import com.traductor.model.ITraductor;
+import com.traductor.model.TablaReglas;
+import com.traductor.model.TraductorBraille;
+import com.traductor.model.TraductorReglas;
+import com.traductor.model.TranscodificadorUTF8;
+import com.traductor.service.CachePDF;
+import com.traductor.service.GeneradorBRF;
+import com.traductor.service.GeneradorPDF;
+import com.traductor.service.GeneradorPDFContinuo;
+
+import java.io.BufferedWriter;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Punto de entrada sin interfaz gráfica para traducir archivos por lotes.
+ * Recorre archivos y directorios, traduce cada archivo con un único
+ * {@link TraductorBraille} compartido en un grupo acotado de hilos y escribe
+ * el texto Braille, el PDF o el archivo BRF para impresora Braille de cada uno.
+ *
+ * <pre>
+ * java -cp traductor-braille.jar com.traductor.view.AppConsola [opciones] &lt;archivo|directorio&gt;...
+ * </pre>
+ */
+public class AppConsola {
+
+    // Sufijo de los archivos generados, para no volver a traducirlos
+    private static final String SUFIJO_SALIDA = ".braille";
+
+    private final ITraductor traductor;
+    // Solo con el diccionario interno; null con una tabla de reglas
+    private final TranscodificadorUTF8 transcodificador;
+    private final List<PathMatcher> patrones;
+    private final Path directorioSalida;
+    private final boolean generarTexto;
+    private final boolean generarPDF;
+    private final boolean generarBRF;
+    private final int hilos;
+    // null si los PDF se generan siempre
+    private final CachePDF cachePDF;
+
+    private final AtomicInteger archivosTraducidos = new AtomicInteger();
+    private final AtomicInteger fallos = new AtomicInteger();
+    private final AtomicLong caracteres = new AtomicLong();
+
+    /**
+     * Inicializa el proceso por lotes.
+     *
+     * @param traductor        El traductor compartido por todos los hilos.
+     * @param patrones         Patrones glob que deben cumplir los archivos.
+     * @param directorioSalida Directorio de salida o null para escribir junto a cada archivo.
+     * @param formato          txt, pdf, brf o ambos (txt y pdf).
+     * @param hilos            Número de hilos de trabajo.
+     */
+    public AppConsola(ITraductor traductor, List<String> patrones, Path directorioSalida, String formato, int hilos) {
+        this(traductor, patrones, directorioSalida, formato, hilos, null);
+    }
+
+    /**
+     * Inicializa el proceso por lotes con una caché de PDF.
+     *
+     * @param traductor        El traductor compartido por todos los hilos.
+     * @param patrones         Patrones glob que deben cumplir los archivos.
+     * @param directorioSalida Directorio de salida o null para escribir junto a cada archivo.
+     * @param formato          txt, pdf, brf o ambos (txt y pdf).
+     * @param hilos            Número de hilos de trabajo.
+     * @param cachePDF         La caché de los PDF generados, o null para no usar ninguna.
+     */
+    public AppConsola(ITraductor traductor, List<String> patrones, Path directorioSalida, String formato, int hilos,
+                      CachePDF cachePDF) {
+        this.traductor = traductor;
+        this.cachePDF = cachePDF;
+        this.transcodificador = traductor instanceof TraductorBraille ? new TranscodificadorUTF8() : null;
+        this.patrones = new ArrayList<>();
+        for (String patron : patrones) {
+            this.patrones.add(FileSystems.getDefault().getPathMatcher("glob:" + patron));
+        }
+        this.directorioSalida = directorioSalida;
+        this.generarTexto = formato.equals("txt") || formato.equals("ambos");
+        this.generarPDF = formato.equals("pdf") || formato.equals("ambos");
+        this.generarBRF = formato.equals("brf");
+        this.hilos = hilos;
+    }
+
+    /**
+     * Traduce todos los archivos encontrados en las rutas indicadas.
+     *
+     * @param rutas Archivos o directorios a traducir.
+     * @return true si todos los archivos se tradujeron sin errores.
+     * @throws IOException Si no se puede recorrer alguna de las rutas.
+     */
+    public boolean ejecutar(List<Path> rutas) throws IOException {
+        long inicio = System.nanoTime();
+
+        // Se listan antes de empezar para no recoger los archivos generados
+        List<Path[]> trabajos = new ArrayList<>();
+        for (Path ruta : rutas) {
+            listarArchivos(ruta, trabajos);
+        }
+
+        // Cola acotada: si se llena, el hilo principal traduce el archivo
+        ThreadPoolExecutor ejecutor = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hilos * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        for (Path[] trabajo : trabajos) {
+            ejecutor.execute(() -> traducirArchivo(trabajo[0], trabajo[1]));
+        }
+        ejecutor.shutdown();
+        try {
+            ejecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        imprimirResumen(System.nanoTime() - inicio);
+        return fallos.get() == 0;
+    }
+
+    /**
+     * Agrega a la lista los archivos de una ruta que cumplen los patrones.
+     *
+     * @param ruta     Archivo o directorio.
+     * @param trabajos Lista de pares (archivo, ruta relativa) a traducir.
+     * @throws IOException Si no se puede recorrer el directorio.
+     */
+    private void listarArchivos(Path ruta, List<Path[]> trabajos) throws IOException {
+        if (!Files.isDirectory(ruta)) {
+            trabajos.add(new Path[]{ruta, ruta.getFileName()});
+            return;
+        }
+        try (Stream<Path> archivos = Files.walk(ruta)) {
+            archivos.filter(Files::isRegularFile).forEach(archivo -> {
+                Path relativa = ruta.relativize(archivo);
+                if (cumplePatron(relativa) && !esArchivoGenerado(archivo)) {
+                    trabajos.add(new Path[]{archivo, relativa});
+                }
+            });
+        }
+    }
+
+    /**
+     * Verifica si una ruta relativa cumple alguno de los patrones.
+     * Los patrones sin separador se comparan solo con el nombre del archivo.
+     *
+     * @param relativa La ruta relativa al directorio recorrido.
+     * @return true si cumple algún patrón.
+     */
+    private boolean cumplePatron(Path relativa) {
+        for (PathMatcher patron : patrones) {
+            if (patron.matches(relativa) || patron.matches(relativa.getFileName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si un archivo fue generado por una ejecución anterior.
+     *
+     * @param archivo El archivo a verificar.
+     * @return true si es una salida de este programa.
+     */
+    private boolean esArchivoGenerado(Path archivo) {
+        String nombre = archivo.getFileName().toString();
+        return nombre.endsWith(SUFIJO_SALIDA + ".txt") || nombre.endsWith(SUFIJO_SALIDA + ".pdf")
+                || nombre.endsWith(SUFIJO_SALIDA + ".brf");
+    }
+
+    /**
+     * Traduce un archivo y escribe sus salidas; los errores se cuentan como fallos.
+     *
+     * @param archivo  El archivo a traducir.
+     * @param relativa Su ruta relativa, usada dentro del directorio de salida.
+     */
+    private void traducirArchivo(Path archivo, Path relativa) {
+        try {
+            Path base = directorioSalida != null ? directorioSalida.resolve(relativa) : archivo;
+            if (base.getParent() != null) {
+                Files.createDirectories(base.getParent());
+            }
+            String nombre = base.getFileName().toString();
+            int punto = nombre.lastIndexOf('.');
+            String raiz = punto > 0 ? nombre.substring(0, punto) : nombre;
+            Path salidaTexto = base.resolveSibling(raiz + SUFIJO_SALIDA + ".txt");
+            Path salidaPDF = base.resolveSibling(raiz + SUFIJO_SALIDA + ".pdf");
+            Path salidaBRF = base.resolveSibling(raiz + SUFIJO_SALIDA + ".brf");
+
+            if (generarBRF) {
+                // BRF: traducción por flujo directamente a bytes ASCII Braille
+                try (LectorContador entrada = new LectorContador(Files.newBufferedReader(archivo, StandardCharsets.UTF_8));
+                     GeneradorBRF salida = new GeneradorBRF(Files.newOutputStream(salidaBRF))) {
+                    traductor.traducir(entrada, salida);
+                    caracteres.addAndGet(entrada.leidos);
+                }
+            } else if (generarPDF && Files.size(archivo) > GeneradorPDFContinuo.UMBRAL_CARACTERES) {
+                // Archivo grande: traducción por flujo a un PDF con memoria constante
+                try (LectorContador entrada = new LectorContador(Files.newBufferedReader(archivo, StandardCharsets.UTF_8));
+                     GeneradorPDFContinuo pdf = new GeneradorPDFContinuo(salidaPDF.toString(),
+                             GeneradorPDF.ModoRenderizado.FUENTE, -1, null);
+                     BufferedWriter texto = generarTexto
+                             ? Files.newBufferedWriter(salidaTexto, StandardCharsets.UTF_8) : null) {
+                    traductor.traducir(entrada, texto != null ? new SalidaDoble(pdf, texto) : pdf);
+                    caracteres.addAndGet(entrada.leidos);
+                }
+            } else if (generarPDF) {
+                // El PDF del texto completo, con el original como título
+                String texto = Files.readString(archivo, StandardCharsets.UTF_8);
+                String braille = traductor.traducir(texto);
+                if (generarTexto) {
+                    Files.writeString(salidaTexto, braille, StandardCharsets.UTF_8);
+                }
+                if (cachePDF != null) {
+                    cachePDF.generarPDF(texto, braille, salidaPDF.toString());
+                } else {
+                    GeneradorPDF.generarPDF(texto, braille, salidaPDF.toString());
+                }
+                caracteres.addAndGet(texto.length());
+            } else if (transcodificador != null) {
+                // Solo texto con el diccionario interno: de bytes UTF-8 a bytes UTF-8
+                caracteres.addAndGet(transcodificador.transcodificar(archivo, salidaTexto));
+            } else {
+                // Solo texto: traducción por flujo, sin cargar el archivo en memoria
+                try (LectorContador entrada = new LectorContador(Files.newBufferedReader(archivo, StandardCharsets.UTF_8));
+                     BufferedWriter salida = Files.newBufferedWriter(salidaTexto, StandardCharsets.UTF_8)) {
+                    traductor.traducir(entrada, salida);
+                    caracteres.addAndGet(entrada.leidos);
+                }
+            }
+            archivosTraducidos.incrementAndGet();
+        } catch (Exception e) {
+            fallos.incrementAndGet();
+            System.err.println("Error al traducir " + archivo + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Imprime el resumen de rendimiento de la ejecución.
+     *
+     * @param nanos Duración total en nanosegundos.
+     */
+    private void imprimirResumen(long nanos) {
+        double segundos = Math.max(nanos / 1e9, 1e-9);
+        System.out.printf("Archivos traducidos: %d, fallos: %d%n", archivosTraducidos.get(), fallos.get());
+        System.out.printf("Caracteres: %d en %.2f s%n", caracteres.get(), segundos);
+        System.out.printf("Rendimiento: %.1f archivos/s, %.0f caracteres/s%n",
+                archivosTraducidos.get() / segundos, caracteres.get() / segundos);
+        if (cachePDF != null) {
+            System.out.printf("Caché de PDF: %d aciertos, %d fallos (%.0f %%), %d desalojos%n",
+                    cachePDF.getAciertos(), cachePDF.getFallos(), cachePDF.getTasaAciertos() * 100,
+                    cachePDF.getDesalojos());
+        }
+    }
+
+    /**
+     * Destino que copia la traducción en otros dos.
+     */
+    private static class SalidaDoble implements Appendable {
+        private final Appendable primera;
+        private final Appendable segunda;
+
+        SalidaDoble(Appendable primera, Appendable segunda) {
+            this.primera = primera;
+            this.segunda = segunda;
+        }
+
+        @Override
+        public Appendable append(CharSequence texto) throws IOException {
+            primera.append(texto);
+            segunda.append(texto);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence texto, int inicio, int fin) throws IOException {
+            primera.append(texto, inicio, fin);
+            segunda.append(texto, inicio, fin);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            primera.append(c);
+            segunda.append(c);
+            return this;
+        }
+    }
+
+    /**
+     * Lector que cuenta los caracteres leídos.
+     */
+    private static class LectorContador extends FilterReader {
+        private long leidos;
+
+        LectorContador(Reader lector) {
+            super(lector);
+        }
+
+        @Override
+        public int read(char[] buffer, int desplazamiento, int longitud) throws IOException {
+            int n = super.read(buffer, desplazamiento, longitud);
+            if (n > 0) {
+                leidos += n;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Muestra la forma de uso del programa.
+     */
+    private static void mostrarUso() {
+        System.err.println("Uso: java -cp traductor-braille.jar com.traductor.view.AppConsola [opciones] <archivo|directorio>...");
+        System.err.println("  -g, --glob <patrón>     Patrón de archivos a traducir (repetible, por defecto *.txt)");
+        System.err.println("  -o, --salida <dir>      Directorio de salida (por defecto junto a cada archivo)");
+        System.err.println("  -f, --formato <tipo>    txt, pdf, brf o ambos (por defecto txt)");
+        System.err.println("  -r, --reglas <tabla>    Tabla de reglas al estilo de liblouis (por defecto, el diccionario interno)");
+        System.err.println("  -t, --hilos <n>         Hilos de trabajo (por defecto, uno por procesador)");
+        System.err.println("  -c, --cache-pdf <dir>   Directorio de la caché de PDF (por defecto, sin caché)");
+    }
+
+    /**
+     * Método principal para ejecutar la traducción por lotes.
+     *
+     * @param args Argumentos de la línea de comandos.
+     */
+    public static void main(String[] args) {
+        List<String> patrones = new ArrayList<>();
+        List<Path> rutas = new ArrayList<>();
+        Path directorioSalida = null;
+        String formato = "txt";
+        int hilos = Runtime.getRuntime().availableProcessors();
+        Path tablaReglas = null;
+        Path directorioCache = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "-g":
+                    case "--glob":
+                        patrones.add(args[++i]);
+                        break;
+                    case "-o":
+                    case "--salida":
+                        directorioSalida = Paths.get(args[++i]);
+                        break;
+                    case "-f":
+                    case "--formato":
+                        formato = args[++i];
+                        if (!formato.equals("txt") && !formato.equals("pdf") && !formato.equals("brf")
+                                && !formato.equals("ambos")) {
+                            throw new IllegalArgumentException("Formato desconocido: " + formato);
+                        }
+                        break;
+                    case "-r":
+                    case "--reglas":
+                        tablaReglas = Paths.get(args[++i]);
+                        break;
+                    case "-t":
+                    case "--hilos":
+                        hilos = Integer.parseInt(args[++i]);
+                        if (hilos < 1) {
+                            throw new IllegalArgumentException("El número de hilos debe ser positivo");
+                        }
+                        break;
+                    case "-c":
+                    case "--cache-pdf":
+                        directorioCache = Paths.get(args[++i]);
+                        break;
+                    default:
+                        rutas.add(Paths.get(args[i]));
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            if (e.getMessage() != null && !(e instanceof ArrayIndexOutOfBoundsException)) {
+                System.err.println(e.getMessage());
+            }
+            mostrarUso();
+            System.exit(2);
+            return;
+        }
+
+        if (rutas.isEmpty()) {
+            mostrarUso();
+            System.exit(2);
+            return;
+        }
+        if (patrones.isEmpty()) {
+            patrones.add("*.txt");
+        }
+
+        try {
+            Metricas.registrarMBean();
+            ITraductor traductor = tablaReglas != null
+                    ? new TraductorReglas(TablaReglas.cargar(tablaReglas)) : new TraductorBraille();
+            CachePDF cachePDF = directorioCache != null ? new CachePDF(directorioCache) : null;
+            AppConsola app = new AppConsola(traductor, patrones, directorioSalida, formato, hilos, cachePDF);
+            System.exit(app.ejecutar(rutas) ? 0 : 1);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
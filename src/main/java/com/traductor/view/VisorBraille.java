@@ -0,0 +1,122 @@
+package com.traductor.view;
+
+import com.traductor.model.DocumentoTraducido;
+import javafx.beans.binding.DoubleBinding;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+
+import java.util.AbstractList;
+
+/**
+ * Muestra un {@link DocumentoTraducido} con el texto original y el Braille
+ * lado a lado, una fila del documento por fila de la lista.
+ *
+ * <p>Es un {@link ListView}, así que solo existen las celdas visibles: al
+ * desplazarse se reutilizan y leen del documento las filas que pasan a
+ * verse. Los elementos de la lista son los índices de las filas y no se
+ * guardan en memoria, y todas las celdas tienen la misma altura, de modo
+ * que abrir o recorrer un documento de millones de filas no cuesta más que
+ * uno pequeño.</p>
+ *
+ * @see DocumentoTraducido
+ */
+public class VisorBraille extends ListView<Integer> {
+    // Altura fija de cada fila, en píxeles
+    private static final double ALTO_FILA = 32;
+
+    // Ancho reservado a la barra de desplazamiento y los bordes, en píxeles
+    private static final double MARGEN = 40;
+    private static final double SEPARACION = 10;
+
+    private static final String ESTILO_BRAILLE = "-fx-font-size: 20px; "
+            + "-fx-font-family: 'Segoe UI Symbol', 'Arial Unicode MS', 'DejaVu Sans';";
+
+    private final DoubleBinding anchoColumna = widthProperty().subtract(MARGEN + SEPARACION).divide(2);
+    private DocumentoTraducido documento;
+
+    /**
+     * Inicializa el visor vacío.
+     */
+    public VisorBraille() {
+        setFixedCellSize(ALTO_FILA);
+        setCellFactory(lista -> new CeldaFila());
+        setPlaceholder(new Label("No hay ningún documento abierto"));
+    }
+
+    /**
+     * Muestra un documento desde su primera fila.
+     *
+     * @param documento El documento a mostrar, o null para vaciar el visor.
+     */
+    public void mostrar(DocumentoTraducido documento) {
+        this.documento = documento;
+        int filas = documento != null ? documento.getNumeroFilas() : 0;
+        setItems(FXCollections.observableList(new IndicesFilas(filas)));
+        scrollTo(0);
+    }
+
+    /**
+     * @return El documento mostrado, o null si no hay ninguno.
+     */
+    public DocumentoTraducido getDocumento() {
+        return documento;
+    }
+
+    /**
+     * Lista de solo lectura con los números de 0 a {@code tamano - 1}.
+     */
+    private static final class IndicesFilas extends AbstractList<Integer> {
+        private final int tamano;
+
+        IndicesFilas(int tamano) {
+            this.tamano = tamano;
+        }
+
+        @Override
+        public Integer get(int indice) {
+            if (indice < 0 || indice >= tamano) {
+                throw new IndexOutOfBoundsException("Fila fuera de rango: " + indice);
+            }
+            return indice;
+        }
+
+        @Override
+        public int size() {
+            return tamano;
+        }
+    }
+
+    /**
+     * Celda con una fila del original y su traducción.
+     */
+    private final class CeldaFila extends ListCell<Integer> {
+        private final Label original = new Label();
+        private final Label braille = new Label();
+        private final HBox contenido = new HBox(SEPARACION, original, braille);
+
+        CeldaFila() {
+            original.setMinWidth(0);
+            original.prefWidthProperty().bind(anchoColumna);
+            braille.setMinWidth(0);
+            braille.prefWidthProperty().bind(anchoColumna);
+            braille.setStyle(ESTILO_BRAILLE);
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
+
+        @Override
+        protected void updateItem(Integer fila, boolean vacia) {
+            super.updateItem(fila, vacia);
+            if (vacia || fila == null || documento == null) {
+                setGraphic(null);
+                return;
+            }
+            original.setText(documento.getFilaOriginal(fila));
+            braille.setText(documento.getFilaBraille(fila));
+            setGraphic(contenido);
+        }
+    }
+}